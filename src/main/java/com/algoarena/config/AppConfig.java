@@ -4,7 +4,9 @@ package com.algoarena.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
-// import java.util.List;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @ConfigurationProperties(prefix = "app")
@@ -13,6 +15,7 @@ public class AppConfig {
     private Piston piston = new Piston();
     private FileUpload file = new FileUpload();
     private Cors cors = new Cors();
+    private Map<String, CacheSpec> cache = new HashMap<>();
     
     // Nested Classes
     public static class Piston {
@@ -88,6 +91,33 @@ public class AppConfig {
         public void setAllowCredentials(boolean allowCredentials) { this.allowCredentials = allowCredentials; }
     }
     
+    /**
+     * Per-cache overrides bound from app.cache.<name>.* (e.g. app.cache.userQuestionOverlay.maximum-weight).
+     * Unset fields fall back to the defaults declared in CacheConfig.
+     */
+    public static class CacheSpec {
+        private Long maximumSize;
+        private Long maximumWeight;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+        private Duration refreshAfterWrite;
+        private Boolean recordStats;
+        
+        // Getters and Setters
+        public Long getMaximumSize() { return maximumSize; }
+        public void setMaximumSize(Long maximumSize) { this.maximumSize = maximumSize; }
+        public Long getMaximumWeight() { return maximumWeight; }
+        public void setMaximumWeight(Long maximumWeight) { this.maximumWeight = maximumWeight; }
+        public Duration getExpireAfterWrite() { return expireAfterWrite; }
+        public void setExpireAfterWrite(Duration expireAfterWrite) { this.expireAfterWrite = expireAfterWrite; }
+        public Duration getExpireAfterAccess() { return expireAfterAccess; }
+        public void setExpireAfterAccess(Duration expireAfterAccess) { this.expireAfterAccess = expireAfterAccess; }
+        public Duration getRefreshAfterWrite() { return refreshAfterWrite; }
+        public void setRefreshAfterWrite(Duration refreshAfterWrite) { this.refreshAfterWrite = refreshAfterWrite; }
+        public Boolean getRecordStats() { return recordStats; }
+        public void setRecordStats(Boolean recordStats) { this.recordStats = recordStats; }
+    }
+    
     // Main Getters and Setters
     public Piston getPiston() { return piston; }
     public void setPiston(Piston piston) { this.piston = piston; }
@@ -95,6 +125,8 @@ public class AppConfig {
     public void setFile(FileUpload file) { this.file = file; }
     public Cors getCors() { return cors; }
     public void setCors(Cors cors) { this.cors = cors; }
+    public Map<String, CacheSpec> getCache() { return cache; }
+    public void setCache(Map<String, CacheSpec> cache) { this.cache = cache; }
 }
 
   
\ No newline at end of file
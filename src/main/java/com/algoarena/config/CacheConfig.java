@@ -1,55 +1,238 @@
-// src/main/java/com/algoarena/config/CacheConfig.java - HYBRID CACHING WITH EVICTION
+// src/main/java/com/algoarena/config/CacheConfig.java - BOUNDED CAFFEINE CACHING WITH EVICTION
 
 package com.algoarena.config;
 
+import com.algoarena.service.cache.CacheRefreshLoaders;
+import com.algoarena.service.cache.QuestionPageKey;
+import com.algoarena.service.cache.SerializedResponseCache;
+import com.algoarena.service.dsa.UserQuestionOverlayService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
-import java.util.Arrays;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
 @EnableCaching
-public class CacheConfig {
+public class CacheConfig implements CachingConfigurer {
+
+    // Background reloads of refresh-after-write caches (one in flight per key)
+    private static final ExecutorService REFRESH_EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    private AppConfig appConfig;
+
+    @Autowired
+    private CacheRefreshLoaders cacheRefreshLoaders;
+
+    /**
+     * Default policy for every cache name. Each field can be overridden with
+     * app.cache.<name>.maximum-size / maximum-weight / expire-after-write /
+     * expire-after-access / refresh-after-write / record-stats.
+     *
+     * A miss on @Cacheable(sync = true) loads through Caffeine's per-key compute,
+     * so concurrent callers wait on one load. Caches with refresh-after-write
+     * serve an entry older than that as is and reload it once in the background
+     * through the key -> value loader registered in CacheRefreshLoaders (never a
+     * replay of the request that loaded it); a refresh racing an eviction is
+     * dropped by Caffeine.
+     *
+     * adminStats and categoryStats set expire-after-access equal to
+     * expire-after-write: it never expires an entry earlier, but lets
+     * RefreshAheadService tell whether an entry was read since it was written.
+     *
+     * Weighted caches count one unit per element of the cached page or list (or per
+     * overlay entry), so a 20-row page costs 20 while an empty result still costs 1.
+     */
+    static Map<String, AppConfig.CacheSpec> defaultSpecs() {
+        Map<String, AppConfig.CacheSpec> defaults = new LinkedHashMap<>();
+
+        // User-specific caches (evicted when user data changes)
+        defaults.put("userQuestionOverlay", spec(null, 1_000_000L, Duration.ofHours(1), Duration.ofMinutes(20))); // Solved flags + approach counts per user
+        defaults.put("categoriesProgress", spec(10_000L, null, Duration.ofHours(2), Duration.ofMinutes(30))); // Categories with user progress
+        defaults.put("userProgressStats", spec(10_000L, null, Duration.ofHours(1), Duration.ofMinutes(15)));  // User progress statistics
+        defaults.put("userSolvedSet", spec(100_000L, null, Duration.ofHours(2), Duration.ofMinutes(30)));     // Solved-question bitmaps (updated in place)
+        defaults.put("userActivity", spec(100_000L, null, Duration.ofHours(2), Duration.ofMinutes(30)));      // Daily solve histograms (streaks, heatmap)
+
+        // Global caches (evicted when admin changes data)
+        defaults.put("questionsList", refreshing(spec(null, 20_000L, Duration.ofHours(6), null), Duration.ofHours(1)));    // Basic questions without user data
+        defaults.put("questionMetaList", refreshing(spec(null, 20_000L, Duration.ofHours(6), null), Duration.ofHours(1))); // Question projections for summary pages
+        defaults.put("categoriesList", refreshing(spec(10L, null, Duration.ofHours(12), null), Duration.ofHours(1)));      // Basic categories without user data
+        defaults.put("adminStats", spec(50L, null, Duration.ofMinutes(30), Duration.ofMinutes(30)));  // Admin statistics
+
+        // Short-lived caches
+        defaults.put("categoryStats", spec(500L, null, Duration.ofMinutes(10), Duration.ofMinutes(10)));  // Category statistics
+
+        // External / response caches
+        defaults.put("compilerRuntimes", spec(10L, null, Duration.ofHours(6), null));       // Piston runtimes list
+        defaults.put("serializedResponses", spec(null, 16_384L, Duration.ofHours(12), null)); // Pre-rendered JSON/gzip bytes, weight in KiB
+
+        return defaults;
+    }
 
     @Bean
+    @Override
     public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        Map<String, AppConfig.CacheSpec> specs = new LinkedHashMap<>();
+        defaultSpecs().forEach((name, defaults) -> specs.put(name, merge(defaults, findOverride(name))));
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setAllowNullValues(false);
 
-        // Configure cache names for different data types
-        cacheManager.setCacheNames(Arrays.asList(
-                // User-specific caches (evicted when user data changes)
-                "questionsSummary",     // Questions with user progress
-                "categoriesProgress",   // Categories with user progress  
-                "userProgressStats",    // User progress statistics
-                
-                // Global caches (evicted when admin changes data)
-                "questionsList",        // Basic questions without user data
-                "categoriesList",       // Basic categories without user data
-                "adminStats",          // Admin statistics
-                
-                // Short-lived caches
-                "categoryStats"        // Category statistics
-        ));
+        // Fix the cache names so a typo in @Cacheable fails fast instead of creating an
+        // unbounded cache on the fly, then replace each one with its own bounded policy
+        cacheManager.setCacheNames(specs.keySet());
+        specs.forEach((name, spec) -> {
+            Caffeine<Object, Object> builder = buildCaffeine(spec);
+            Duration refreshAfterWrite = refreshAfterWrite(spec);
+            if (refreshAfterWrite == null) {
+                cacheManager.registerCustomCache(name, builder.build());
+            } else {
+                cacheManager.registerCustomCache(name, builder.refreshAfterWrite(refreshAfterWrite)
+                        .executor(REFRESH_EXECUTOR)
+                        .build(cacheRefreshLoaders.loaderFor(name)));
+            }
+        });
 
         return cacheManager;
     }
 
+    /**
+     * Default key generator for @Cacheable methods without an explicit key
+     */
     @Bean
+    @Override
     public KeyGenerator keyGenerator() {
-        return (target, method, params) -> {
-            StringBuilder key = new StringBuilder();
-            key.append(method.getName());
-            for (Object param : params) {
-                if (param != null) {
-                    key.append("_").append(param.toString());
-                }
-            }
-            return key.toString();
-        };
+        return new StructuredKeyGenerator();
+    }
+
+    /**
+     * Typed keys for catalog pages: (pageable, categoryId, level, search)
+     */
+    @Bean
+    public KeyGenerator questionPageKeyGenerator() {
+        return (target, method, params) -> QuestionPageKey.of(
+                (Pageable) params[0], (String) params[1], (String) params[2], (String) params[3]);
+    }
+
+    // ==================== HELPERS ====================
+
+    static Caffeine<Object, Object> buildCaffeine(AppConfig.CacheSpec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight())
+                    .weigher((Object key, Object value) -> weigh(value));
+        } else if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        if (!Boolean.FALSE.equals(spec.getRecordStats())) {
+            builder.recordStats();
+        }
+        return builder;
+    }
+
+    static int weigh(Object value) {
+        int weight = 1;
+        if (value instanceof Page<?> page) {
+            weight = page.getNumberOfElements();
+        } else if (value instanceof Collection<?> collection) {
+            weight = collection.size();
+        } else if (value instanceof Map<?, ?> map) {
+            weight = map.size();
+        } else if (value instanceof UserQuestionOverlayService.Overlay overlay) {
+            weight = overlay.size();
+        } else if (value instanceof SerializedResponseCache.Entry entry) {
+            weight = entry.weightKb();
+        }
+        return Math.max(1, weight);
+    }
+
+    /**
+     * Refresh only makes sense before the entry expires; otherwise it is a plain miss
+     */
+    private static Duration refreshAfterWrite(AppConfig.CacheSpec spec) {
+        if (spec.getRefreshAfterWrite() == null || spec.getExpireAfterWrite() == null
+                || spec.getRefreshAfterWrite().compareTo(spec.getExpireAfterWrite()) >= 0) {
+            return null;
+        }
+        return spec.getRefreshAfterWrite();
+    }
+
+    private AppConfig.CacheSpec findOverride(String cacheName) {
+        // Accept both app.cache.questionsList.* and app.cache.questions-list.*
+        String wanted = normalize(cacheName);
+        return appConfig.getCache().entrySet().stream()
+                .filter(entry -> normalize(entry.getKey()).equals(wanted))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String normalize(String name) {
+        return name.replace("-", "").toLowerCase();
+    }
+
+    private static AppConfig.CacheSpec merge(AppConfig.CacheSpec defaults, AppConfig.CacheSpec override) {
+        if (override == null) {
+            return defaults;
+        }
+        AppConfig.CacheSpec merged = new AppConfig.CacheSpec();
+        // Size and weight bounds are mutually exclusive in Caffeine - an override of one replaces both
+        if (override.getMaximumSize() != null || override.getMaximumWeight() != null) {
+            merged.setMaximumSize(override.getMaximumWeight() == null ? override.getMaximumSize() : null);
+            merged.setMaximumWeight(override.getMaximumWeight());
+        } else {
+            merged.setMaximumSize(defaults.getMaximumSize());
+            merged.setMaximumWeight(defaults.getMaximumWeight());
+        }
+        merged.setExpireAfterWrite(override.getExpireAfterWrite() != null
+                ? override.getExpireAfterWrite() : defaults.getExpireAfterWrite());
+        merged.setExpireAfterAccess(override.getExpireAfterAccess() != null
+                ? override.getExpireAfterAccess() : defaults.getExpireAfterAccess());
+        merged.setRefreshAfterWrite(override.getRefreshAfterWrite() != null
+                ? override.getRefreshAfterWrite() : defaults.getRefreshAfterWrite());
+        merged.setRecordStats(override.getRecordStats() != null
+                ? override.getRecordStats() : defaults.getRecordStats());
+        return merged;
+    }
+
+    private static AppConfig.CacheSpec spec(Long maximumSize, Long maximumWeight,
+                                            Duration expireAfterWrite, Duration expireAfterAccess) {
+        AppConfig.CacheSpec spec = new AppConfig.CacheSpec();
+        spec.setMaximumSize(maximumSize);
+        spec.setMaximumWeight(maximumWeight);
+        spec.setExpireAfterWrite(expireAfterWrite);
+        spec.setExpireAfterAccess(expireAfterAccess);
+        spec.setRecordStats(true);
+        return spec;
+    }
+
+    private static AppConfig.CacheSpec refreshing(AppConfig.CacheSpec spec, Duration refreshAfterWrite) {
+        spec.setRefreshAfterWrite(refreshAfterWrite);
+        return spec;
     }
-}
\ No newline at end of file
+}
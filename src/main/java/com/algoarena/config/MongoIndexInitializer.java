@@ -0,0 +1,72 @@
+// src/main/java/com/algoarena/config/MongoIndexInitializer.java
+package com.algoarena.config;
+
+import com.algoarena.model.Approach;
+import com.algoarena.model.Category;
+import com.algoarena.model.Question;
+import com.algoarena.model.User;
+import com.algoarena.model.UserProgress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the indexes declared with @Indexed / @CompoundIndex on the models.
+ *
+ * Spring Data leaves auto index creation off, so the annotations alone build
+ * nothing. Each index is created in the background once the application is
+ * ready; createIndex is a no-op when an identical index already exists. A
+ * failure (e.g. a unique index over duplicate data) is logged and does not
+ * stop startup or the remaining indexes.
+ */
+@Component
+public class MongoIndexInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexInitializer.class);
+
+    private static final List<Class<?>> INDEXED_MODELS = List.of(
+            Question.class, Category.class, User.class, Approach.class, UserProgress.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoMappingContext mappingContext;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread indexThread = new Thread(this::ensureIndexes, "mongo-indexes");
+        indexThread.setDaemon(true);
+        indexThread.start();
+    }
+
+    public void ensureIndexes() {
+        long start = System.currentTimeMillis();
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        int ensured = 0;
+
+        for (Class<?> model : INDEXED_MODELS) {
+            IndexOperations indexOps = mongoTemplate.indexOps(model);
+            for (var index : resolver.resolveIndexFor(model)) {
+                try {
+                    indexOps.createIndex(index);
+                    ensured++;
+                } catch (Exception e) {
+                    logger.warn("Index {} on {} not created: {}",
+                            index.getIndexOptions().get("name"), model.getSimpleName(), e.getMessage());
+                }
+            }
+        }
+        logger.info("MongoDB indexes ensured: {} in {} ms", ensured, System.currentTimeMillis() - start);
+    }
+}
@@ -76,6 +76,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET,
                                 "/questions/summary",              // Questions with user progress
                                 "/questions",                      // Questions list (with filters)
+                                "/questions/autocomplete",         // Search box typeahead
                                 "/questions/{id}",                 // Question details
                                 "/categories/with-progress",       // Categories with user progress
                                 "/categories",                     // Basic categories list
@@ -0,0 +1,62 @@
+// src/main/java/com/algoarena/config/StructuredKeyGenerator.java
+package com.algoarena.config;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Default key generator for @Cacheable methods without an explicit key.
+ *
+ * - no parameters: the method name (a constant, so two no-arg methods can
+ *   share a cache without clashing). Entries that something else addresses
+ *   by key (refresh-ahead, refresh loaders) declare an explicit key instead.
+ * - one non-null, non-array parameter: the parameter itself (e.g. the userId)
+ * - otherwise: an immutable CompositeKey holding the parameters with a
+ *   precomputed hash - no toString() or string building involved
+ */
+public class StructuredKeyGenerator implements KeyGenerator {
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        if (params.length == 0) {
+            return method.getName();
+        }
+        if (params.length == 1 && params[0] != null && !params[0].getClass().isArray()) {
+            return params[0];
+        }
+        return new CompositeKey(params);
+    }
+
+    /**
+     * Multi-parameter key, compared element by element (deep for arrays)
+     */
+    public static final class CompositeKey {
+
+        private final Object[] params;
+        private final int hash;
+
+        public CompositeKey(Object... params) {
+            this.params = params.clone();
+            this.hash = Arrays.deepHashCode(this.params);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || (other instanceof CompositeKey key
+                    && hash == key.hash
+                    && Arrays.deepEquals(params, key.params));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.deepToString(params);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.algoarena.model.User;
 import com.algoarena.model.UserRole;
 import com.algoarena.service.admin.AdminService;  
 import com.algoarena.service.admin.UserService;
+import com.algoarena.service.cache.CacheStatsService;
 import com.algoarena.service.dsa.UserProgressService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -33,6 +34,9 @@ public class AdminController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private CacheStatsService cacheStatsService;
+
     /**
      * TEMPORARY DEBUG ENDPOINT
      * GET /api/admin/test
@@ -272,6 +276,54 @@ public class AdminController {
         }
     }
 
+    /**
+     * Get cache statistics (size, estimated memory, hit ratio, top keys)
+     * GET /api/admin/cache?topKeys=10
+     */
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Object>> getCacheStats(@RequestParam(required = false) Integer topKeys) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("caches", cacheStatsService.getAllCacheStats(topKeys));
+            response.put("timestamp", System.currentTimeMillis());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", "Cache stats error");
+            errorResponse.put("message", e.getMessage());
+            return ResponseEntity.status(500).body(errorResponse);
+        }
+    }
+
+    /**
+     * Evict a single key, a key prefix, or the whole cache
+     * DELETE /api/admin/cache/{name}?key=... | ?prefix=...
+     */
+    @DeleteMapping("/cache/{name}")
+    public ResponseEntity<Map<String, Object>> evictCache(
+            @PathVariable String name,
+            @RequestParam(required = false) String key,
+            @RequestParam(required = false) String prefix) {
+        if (!cacheStatsService.cacheExists(name)) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", "Cache not found");
+            errorResponse.put("message", "Unknown cache: " + name);
+            return ResponseEntity.status(404).body(errorResponse);
+        }
+
+        long removed = cacheStatsService.evict(name, key, prefix);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("cache", name);
+        response.put("removed", removed);
+        response.put("message", key != null ? "Key evicted" : prefix != null ? "Prefix evicted" : "Cache cleared");
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Get role permissions matrix
      * GET /api/admin/users/permissions
@@ -3,13 +3,19 @@ package com.algoarena.controller.compiler;
 
 import com.algoarena.dto.compiler.ExecutionRequest;
 import com.algoarena.dto.compiler.ExecutionResponse;
+import com.algoarena.service.cache.SerializedResponseCache;
 import com.algoarena.service.compiler.PistonService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +28,12 @@ public class CompilerController {
     @Autowired
     private PistonService pistonService;
 
+    @Autowired
+    private SerializedResponseCache serializedResponseCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping("/execute")
     public ResponseEntity<Map<String, Object>> executeCode(@Valid @RequestBody ExecutionRequest request) {
         try {
@@ -42,23 +54,35 @@ public class CompilerController {
         }
     }
 
+    /**
+     * Runtimes are cached and identical for everyone - written as pre-rendered
+     * bytes, so the handler writes the response itself (success and error)
+     */
     @GetMapping("/runtimes")
-    public ResponseEntity<Map<String, Object>> getRuntimes() {
+    public void getRuntimes(HttpServletRequest request, HttpServletResponse servletResponse) throws IOException {
         try {
             List<Map<String, Object>> runtimes = pistonService.getRuntimes();
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", runtimes);
-            
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
+
+            serializedResponseCache.write("compiler_runtimes", runtimes, () -> {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("data", runtimes);
+                return response;
+            }, request, servletResponse);
+        } catch (IOException | RuntimeException e) {
+            if (servletResponse.isCommitted()) {
+                throw e; // Part of the body is already sent - nothing left to replace it with
+            }
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
             response.put("error", "Failed to fetch runtimes");
             response.put("message", e.getMessage());
-            
-            return ResponseEntity.status(500).body(response);
+
+            servletResponse.resetBuffer();
+            servletResponse.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            servletResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            servletResponse.setCharacterEncoding("UTF-8");
+            objectMapper.writeValue(servletResponse.getOutputStream(), response);
         }
     }
 
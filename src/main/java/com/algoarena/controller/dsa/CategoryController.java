@@ -4,14 +4,20 @@ package com.algoarena.controller.dsa;
 import com.algoarena.dto.dsa.CategoryDTO;
 import com.algoarena.dto.dsa.CategorySummaryDTO;
 import com.algoarena.model.User;
+import com.algoarena.service.cache.CatalogVersionService;
+import com.algoarena.service.cache.SerializedResponseCache;
 import com.algoarena.service.dsa.CategoryService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -22,11 +28,24 @@ public class CategoryController {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private SerializedResponseCache serializedResponseCache;
+
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+
+    /**
+     * Same list for every caller - served from pre-rendered JSON/gzip bytes
+     */
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<CategoryDTO>> getAllCategories() {
+    public void getAllCategories(HttpServletRequest request, HttpServletResponse response,
+                                 ServletWebRequest webRequest) throws IOException {
+        if (catalogVersionService.checkNotModified(webRequest, catalogVersionService.catalogEtag())) {
+            return;
+        }
         List<CategoryDTO> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+        serializedResponseCache.write("categories", categories, request, response);
     }
 
     @GetMapping("/{id}")
@@ -3,9 +3,18 @@ package com.algoarena.controller.dsa;
 
 import com.algoarena.dto.dsa.QuestionDTO;
 import com.algoarena.dto.dsa.QuestionDetailDTO;
+import com.algoarena.dto.dsa.QuestionSuggestionDTO;
 import com.algoarena.dto.dsa.QuestionSummaryDTO;
+import com.algoarena.model.Question;
 import com.algoarena.model.User;
+import com.algoarena.repository.QuestionCursor;
+import com.algoarena.service.cache.CatalogVersionService;
+import com.algoarena.service.cache.QuestionPageKey;
+import com.algoarena.service.cache.SerializedResponseCache;
+import com.algoarena.service.dsa.QuestionFacetService;
 import com.algoarena.service.dsa.QuestionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -14,7 +23,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,13 +37,48 @@ public class QuestionController {
     @Autowired
     private QuestionService questionService;
 
+    @Autowired
+    private QuestionFacetService questionFacetService;
+
+    @Autowired
+    private SerializedResponseCache serializedResponseCache;
+
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+
+    /**
+     * Unfiltered catalog pages are identical for every caller - served from
+     * pre-rendered JSON/gzip bytes (filtered requests use the handler below)
+     */
+    @GetMapping(params = { "!categoryId", "!level", "!search", "!cursor" })
+    @PreAuthorize("isAuthenticated()")
+    public void getAllQuestionsUnfiltered(
+            Pageable pageable,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            ServletWebRequest webRequest) throws IOException {
+        if (catalogVersionService.checkNotModified(webRequest, catalogVersionService.catalogEtag())) {
+            return;
+        }
+        Page<Question> catalogPage = questionService.getCatalogPage(pageable);
+        serializedResponseCache.write(
+                QuestionPageKey.of(pageable, null, null, null),
+                catalogPage,
+                () -> catalogPage.map(QuestionDTO::fromEntity),
+                request, response);
+    }
+
     @GetMapping
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Page<QuestionDTO>> getAllQuestions(
             Pageable pageable,
             @RequestParam(required = false) String categoryId,
             @RequestParam(required = false) String level,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            ServletWebRequest webRequest) {
+        if (catalogVersionService.checkNotModified(webRequest, catalogVersionService.catalogEtag())) {
+            return null;
+        }
         Page<QuestionDTO> questions = questionService.getAllQuestions(pageable, categoryId, level, search);
         return ResponseEntity.ok(questions);
     }
@@ -40,8 +87,13 @@ public class QuestionController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<QuestionDetailDTO> getQuestionDetails(
             @PathVariable String id,
-            Authentication authentication) {
+            Authentication authentication,
+            ServletWebRequest webRequest) {
         User currentUser = (User) authentication.getPrincipal();
+        // Details embed the user's solved state - catalog version + user progress version
+        if (catalogVersionService.checkNotModified(webRequest, catalogVersionService.userEtag(currentUser.getId()))) {
+            return null;
+        }
         QuestionDetailDTO questionDetail = questionService.getQuestionDetails(id, currentUser.getId());
         if (questionDetail == null) {
             return ResponseEntity.notFound().build();
@@ -83,13 +135,58 @@ public class QuestionController {
         }
     }
 
+    /**
+     * Keyset pagination - opt in with ?cursor= (empty for the first page) and
+     * pass back nextCursor; same filters as the offset endpoint
+     * GET /api/questions?cursor=&size=20&categoryId=...
+     */
+    @GetMapping(params = "cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getQuestionsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String categoryId,
+            @RequestParam(required = false) String level,
+            @RequestParam(required = false) String search,
+            ServletWebRequest webRequest) {
+        QuestionCursor after;
+        try {
+            after = QuestionCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+
+        if (catalogVersionService.checkNotModified(webRequest, catalogVersionService.catalogEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok(questionService.getAllQuestionsAfter(
+                after, boundedPageSize(size), categoryId, level, search));
+    }
+
     @GetMapping("/search")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<QuestionDTO>> searchQuestions(@RequestParam String q) {
-        List<QuestionDTO> questions = questionService.searchQuestions(q);
+    public ResponseEntity<List<QuestionDTO>> searchQuestions(
+            @RequestParam String q,
+            @RequestParam(required = false) String mode) {
+        // mode=fuzzy tolerates typos ("binery search", "dijkstr")
+        List<QuestionDTO> questions = questionService.searchQuestions(q, mode);
         return ResponseEntity.ok(questions);
     }
 
+    /**
+     * Typeahead for the search box - top title prefix matches from memory
+     * GET /api/questions/autocomplete?prefix=bin&categoryId=...&limit=10
+     */
+    @GetMapping("/autocomplete")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<QuestionSuggestionDTO>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(required = false) String categoryId,
+            @RequestParam(defaultValue = "10") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, 50));
+        return ResponseEntity.ok(questionService.autocomplete(prefix, categoryId, boundedLimit));
+    }
+
     @GetMapping("/stats")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Map<String, Object>> getQuestionStats() {
@@ -101,20 +198,70 @@ public class QuestionController {
      * NEW OPTIMIZED ENDPOINT: Get questions summary with user progress
      * This endpoint eliminates N+1 queries by fetching user progress in bulk
      * GET /api/questions/summary
+     * With facets=true the response is { questions: page, facets: counts per
+     * category, level and solved state for the current filter }
      */
     @GetMapping("/summary")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Page<QuestionSummaryDTO>> getQuestionsSummaryWithProgress(
+    public ResponseEntity<?> getQuestionsSummaryWithProgress(
             Pageable pageable,
             @RequestParam(required = false) String categoryId,
             @RequestParam(required = false) String level,
             @RequestParam(required = false) String search,
-            Authentication authentication) {
+            @RequestParam(defaultValue = "false") boolean facets,
+            Authentication authentication,
+            ServletWebRequest webRequest) {
         User currentUser = (User) authentication.getPrincipal();
 
+        if (catalogVersionService.checkNotModified(webRequest, catalogVersionService.userEtag(currentUser.getId()))) {
+            return null;
+        }
+
         Page<QuestionSummaryDTO> questionsSummary = questionService.getQuestionsWithProgress(
                 pageable, categoryId, level, search, currentUser.getId());
 
+        if (facets) {
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("questions", questionsSummary);
+            response.put("facets", questionFacetService.getSummaryFacets(
+                    categoryId, level, search, currentUser.getId()));
+            return ResponseEntity.ok(response);
+        }
+
         return ResponseEntity.ok(questionsSummary);
     }
-}
\ No newline at end of file
+
+    /**
+     * Keyset variant of /summary - opt in with ?cursor= (empty for the first page)
+     * GET /api/questions/summary?cursor=&size=20
+     */
+    @GetMapping(value = "/summary", params = "cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getQuestionsSummaryByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String categoryId,
+            @RequestParam(required = false) String level,
+            @RequestParam(required = false) String search,
+            Authentication authentication,
+            ServletWebRequest webRequest) {
+        User currentUser = (User) authentication.getPrincipal();
+
+        QuestionCursor after;
+        try {
+            after = QuestionCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+
+        if (catalogVersionService.checkNotModified(webRequest, catalogVersionService.userEtag(currentUser.getId()))) {
+            return null;
+        }
+        return ResponseEntity.ok(questionService.getQuestionsWithProgressAfter(
+                after, boundedPageSize(size), categoryId, level, search, currentUser.getId()));
+    }
+
+    private static int boundedPageSize(int size) {
+        return Math.max(1, Math.min(size, 100));
+    }
+}
@@ -3,6 +3,7 @@ package com.algoarena.controller.dsa;
 
 import com.algoarena.dto.dsa.SolutionDTO;
 import com.algoarena.model.User;
+import com.algoarena.service.cache.CatalogVersionService;
 import com.algoarena.service.dsa.SolutionService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +12,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -24,6 +26,9 @@ public class SolutionController {
     @Autowired
     private SolutionService solutionService;
 
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+
     @GetMapping("/{id}")
     public ResponseEntity<SolutionDTO> getSolutionById(@PathVariable String id) {
         SolutionDTO solution = solutionService.getSolutionById(id);
@@ -41,7 +46,13 @@ public class SolutionController {
     }
 
     @GetMapping("/question/{questionId}")
-    public ResponseEntity<List<SolutionDTO>> getSolutionsByQuestion(@PathVariable String questionId) {
+    public ResponseEntity<List<SolutionDTO>> getSolutionsByQuestion(
+            @PathVariable String questionId,
+            ServletWebRequest webRequest) {
+        // Solutions only change through admin writes - 304 while the catalog version is unchanged
+        if (catalogVersionService.checkNotModified(webRequest, catalogVersionService.catalogEtag())) {
+            return null;
+        }
         List<SolutionDTO> solutions = solutionService.getSolutionsByQuestion(questionId);
         return ResponseEntity.ok(solutions);
     }
@@ -5,6 +5,7 @@ package com.algoarena.controller.dsa;
 import com.algoarena.dto.dsa.UserProgressDTO;
 import com.algoarena.model.User;
 import com.algoarena.service.dsa.UserProgressService;
+import com.algoarena.service.leaderboard.LeaderboardService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,6 +24,9 @@ public class UserProgressController {
     @Autowired
     private UserProgressService userProgressService;
 
+    @Autowired
+    private LeaderboardService leaderboardService;
+
     // ==================== USER PROGRESS ENDPOINTS ====================
 
     /**
@@ -110,6 +114,41 @@ public class UserProgressController {
         return ResponseEntity.ok(progress);
     }
 
+    /**
+     * Get current user's daily activity: heatmap, streaks and recent counts
+     * GET /api/users/progress/activity?days=365
+     */
+    @GetMapping("/users/progress/activity")
+    public ResponseEntity<Map<String, Object>> getCurrentUserActivity(
+            @RequestParam(defaultValue = "365") int days,
+            Authentication authentication) {
+        User currentUser = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(userProgressService.getUserActivity(currentUser.getId(), days));
+    }
+
+    /**
+     * Get current user's leaderboard rank and percentile
+     * GET /api/users/progress/rank
+     */
+    @GetMapping("/users/progress/rank")
+    public ResponseEntity<Map<String, Object>> getCurrentUserRank(Authentication authentication) {
+        User currentUser = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(userProgressService.getUserRank(currentUser.getId()));
+    }
+
+    // ==================== LEADERBOARD ENDPOINTS ====================
+
+    /**
+     * Get one page of the leaderboard, most solved first
+     * GET /api/leaderboard?offset=0&limit=50
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<Map<String, Object>> getLeaderboard(
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(offset, limit));
+    }
+
     // ==================== ADMIN ENDPOINTS ====================
 
     /**
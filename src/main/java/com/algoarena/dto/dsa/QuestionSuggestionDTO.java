@@ -0,0 +1,68 @@
+// src/main/java/com/algoarena/dto/dsa/QuestionSuggestionDTO.java
+
+package com.algoarena.dto.dsa;
+
+import com.algoarena.model.QuestionLevel;
+
+/**
+ * Typeahead suggestion for the question search box
+ */
+public class QuestionSuggestionDTO {
+    private String id;
+    private String title;
+    private QuestionLevel level;
+    private String categoryId;
+    private String categoryName;
+
+    // Constructors
+    public QuestionSuggestionDTO() {}
+
+    public QuestionSuggestionDTO(String id, String title, QuestionLevel level, String categoryId, String categoryName) {
+        this.id = id;
+        this.title = title;
+        this.level = level;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public QuestionLevel getLevel() {
+        return level;
+    }
+
+    public void setLevel(QuestionLevel level) {
+        this.level = level;
+    }
+
+    public String getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(String categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public void setCategoryName(String categoryName) {
+        this.categoryName = categoryName;
+    }
+}
@@ -0,0 +1,51 @@
+// src/main/java/com/algoarena/model/CatalogVersion.java
+package com.algoarena.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Monotonic counter bumped on every admin catalog mutation (questions,
+ * categories, solutions). Single document with id "catalog".
+ */
+@Document(collection = "catalog_versions")
+public class CatalogVersion {
+
+    public static final String CATALOG_ID = "catalog";
+
+    @Id
+    private String id;
+
+    private long version;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public CatalogVersion() {}
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
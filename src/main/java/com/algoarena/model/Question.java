@@ -2,6 +2,8 @@
 package com.algoarena.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 
@@ -9,6 +11,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Document(collection = "questions")
+// Every index ends with the NEWEST_FIRST sort (createdAt, _id) so filtered pages never sort in memory;
+// created at startup by MongoIndexInitializer
+@CompoundIndexes({
+    @CompoundIndex(name = "category_level_created", def = "{'category.$id': 1, 'level': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "category_created", def = "{'category.$id': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "level_created", def = "{'level': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "created", def = "{'createdAt': -1, '_id': -1}")
+})
 public class Question {
 
     @Id
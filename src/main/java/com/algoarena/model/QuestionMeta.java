@@ -0,0 +1,22 @@
+// src/main/java/com/algoarena/model/QuestionMeta.java
+package com.algoarena.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a question for list and statistics paths - only the
+ * fields those need, read without statement, snippets or image URLs and
+ * without resolving the category/createdBy DBRefs
+ */
+public record QuestionMeta(String id, String title, QuestionLevel level, String categoryId, LocalDateTime createdAt) {
+
+    // Static factory method
+    public static QuestionMeta fromEntity(Question question) {
+        return new QuestionMeta(
+                question.getId(),
+                question.getTitle(),
+                question.getLevel(),
+                question.getCategory() != null ? question.getCategory().getId() : null,
+                question.getCreatedAt());
+    }
+}
@@ -0,0 +1,137 @@
+// src/main/java/com/algoarena/model/UserStats.java
+package com.algoarena.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Materialized progress totals for one user (id = user id), kept current with
+ * $inc updates on every solve/unsolve so the stats page is a single read.
+ *
+ * - solvedByLevel: "easy"/"medium"/"hard" -> count
+ * - solvedByCategory: category id -> count
+ * - recentSolves: newest first, capped at UserStatsService.RECENT_SOLVES
+ * - dailySolves: ISO date -> solves that day, last UserStatsService.ACTIVITY_DAYS
+ *   days only (one $inc per solve, older days are pruned on read)
+ */
+@Document(collection = "user_stats")
+public class UserStats {
+
+    @Id
+    private String id;
+
+    private long totalSolved;
+    private Map<String, Long> solvedByLevel = new HashMap<>();
+    private Map<String, Long> solvedByCategory = new HashMap<>();
+    private LocalDateTime lastSolvedAt;
+    private List<RecentSolve> recentSolves = new ArrayList<>();
+    private Map<String, Integer> dailySolves = new HashMap<>();
+    private LocalDateTime updatedAt;
+
+    // One entry of the recent solves ring (titles/names are looked up at read time)
+    public static class RecentSolve {
+        private String questionId;
+        private String categoryId;
+        private QuestionLevel level;
+        private LocalDateTime solvedAt;
+
+        // Constructors
+        public RecentSolve() {}
+
+        public RecentSolve(String questionId, String categoryId, QuestionLevel level, LocalDateTime solvedAt) {
+            this.questionId = questionId;
+            this.categoryId = categoryId;
+            this.level = level;
+            this.solvedAt = solvedAt;
+        }
+
+        // Getters and Setters
+        public String getQuestionId() { return questionId; }
+        public void setQuestionId(String questionId) { this.questionId = questionId; }
+        public String getCategoryId() { return categoryId; }
+        public void setCategoryId(String categoryId) { this.categoryId = categoryId; }
+        public QuestionLevel getLevel() { return level; }
+        public void setLevel(QuestionLevel level) { this.level = level; }
+        public LocalDateTime getSolvedAt() { return solvedAt; }
+        public void setSolvedAt(LocalDateTime solvedAt) { this.solvedAt = solvedAt; }
+    }
+
+    // Constructors
+    public UserStats() {}
+
+    public UserStats(String userId) {
+        this.id = userId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public long getTotalSolved() {
+        return totalSolved;
+    }
+
+    public void setTotalSolved(long totalSolved) {
+        this.totalSolved = totalSolved;
+    }
+
+    public Map<String, Long> getSolvedByLevel() {
+        return solvedByLevel;
+    }
+
+    public void setSolvedByLevel(Map<String, Long> solvedByLevel) {
+        this.solvedByLevel = solvedByLevel;
+    }
+
+    public Map<String, Long> getSolvedByCategory() {
+        return solvedByCategory;
+    }
+
+    public void setSolvedByCategory(Map<String, Long> solvedByCategory) {
+        this.solvedByCategory = solvedByCategory;
+    }
+
+    public LocalDateTime getLastSolvedAt() {
+        return lastSolvedAt;
+    }
+
+    public void setLastSolvedAt(LocalDateTime lastSolvedAt) {
+        this.lastSolvedAt = lastSolvedAt;
+    }
+
+    public List<RecentSolve> getRecentSolves() {
+        return recentSolves;
+    }
+
+    public void setRecentSolves(List<RecentSolve> recentSolves) {
+        this.recentSolves = recentSolves;
+    }
+
+    public Map<String, Integer> getDailySolves() {
+        return dailySolves;
+    }
+
+    public void setDailySolves(Map<String, Integer> dailySolves) {
+        this.dailySolves = dailySolves;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -27,6 +27,14 @@ public interface CategoryRepository extends MongoRepository<Category, String> {
     @Query(value = "{}", count = true)
     long countAllCategories();
 
+    // Category ids only (no DBRef resolution) - used to keep per-category caches warm
+    @Query(value = "{}", fields = "{ '_id': 1 }")
+    List<Category> findAllIds();
+
+    // Ids and names only (createdBy DBRef not resolved)
+    @Query(value = "{}", fields = "{ 'name': 1 }")
+    List<Category> findAllNames();
+
     // Find categories by creator
     List<Category> findByCreatedBy_Id(String createdById);
 
@@ -0,0 +1,37 @@
+// src/main/java/com/algoarena/repository/DbRefs.java
+package com.algoarena.repository;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+
+/**
+ * Aggregation helpers for DBRef fields.
+ *
+ * Queries can match "x.$id", but "$x.$id" is not a valid aggregation field
+ * path (MongoDB rejects field names starting with '$'), so the id is read
+ * with $getField instead.
+ */
+public final class DbRefs {
+
+    private DbRefs() {
+    }
+
+    /**
+     * Id of a DBRef field as an expression, e.g. id("$user")
+     */
+    public static Document id(String field) {
+        return new Document("$getField", new Document()
+                .append("field", new Document("$literal", "$id"))
+                .append("input", field));
+    }
+
+    /**
+     * {$group: {_id: <id of the DBRef field>, count: {$sum: 1}}}
+     */
+    public static AggregationOperation countById(String field) {
+        Document group = new Document("$group", new Document()
+                .append("_id", id(field))
+                .append("count", new Document("$sum", 1)));
+        return context -> group;
+    }
+}
@@ -0,0 +1,47 @@
+// src/main/java/com/algoarena/repository/QuestionCursor.java
+package com.algoarena.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+
+/**
+ * Keyset position in the newest-first question order: (createdAt, _id) of the
+ * last question a client has seen. Sent as an opaque URL-safe token; the next
+ * page is read with a range predicate on the createdAt/_id index instead of
+ * skipping N documents.
+ */
+public record QuestionCursor(long createdAtMillis, String id) {
+
+    public static QuestionCursor of(LocalDateTime createdAt, String id) {
+        long millis = createdAt != null ? createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+        return new QuestionCursor(millis, id);
+    }
+
+    public String encode() {
+        String raw = createdAtMillis + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return null for a blank token (first page)
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static QuestionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new QuestionCursor(Long.parseLong(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            // Also covers malformed Base64 and NumberFormatException
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -12,7 +12,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface QuestionRepository extends MongoRepository<Question, String> {
+public interface QuestionRepository extends MongoRepository<Question, String>, QuestionRepositoryCustom {
 
        // Find questions by category
        List<Question> findByCategory_Id(String categoryId);
@@ -0,0 +1,60 @@
+// src/main/java/com/algoarena/repository/QuestionRepositoryCustom.java
+package com.algoarena.repository;
+
+import com.algoarena.dto.dsa.QuestionSummaryDTO;
+import com.algoarena.model.Question;
+import com.algoarena.model.QuestionMeta;
+import com.algoarena.model.QuestionLevel;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface QuestionRepositoryCustom {
+
+    /**
+     * One page of questions for any combination of filters (null = not filtered),
+     * newest first, with the total count - paging and filtering run in MongoDB
+     */
+    Page<Question> findFiltered(String categoryId, QuestionLevel level, String search, Pageable pageable);
+
+    /**
+     * Same filters and order as findFiltered, projected straight into summary
+     * rows with the given user's progress - one database round trip per page
+     */
+    Page<QuestionSummaryDTO> findSummaryPage(String userId, String categoryId, QuestionLevel level,
+                                             String search, Pageable pageable);
+
+    /**
+     * Summary rows for the given ids with the given user's progress, in the
+     * order of {@code ids} (ranked search hits)
+     */
+    List<QuestionSummaryDTO> findSummariesByIds(String userId, List<String> ids);
+
+    // ==================== PROJECTIONS ====================
+
+    /**
+     * Same filters and order as findFiltered, returning projections only
+     */
+    Page<QuestionMeta> findMetaFiltered(String categoryId, QuestionLevel level, String search, Pageable pageable);
+
+    List<QuestionMeta> findAllMeta();
+
+    List<QuestionMeta> findMetaByCategory(String categoryId);
+
+    /**
+     * Projections for the given ids, in no particular order
+     */
+    List<QuestionMeta> findMetaByIds(Collection<String> ids);
+
+    // ==================== KEYSET PAGINATION ====================
+
+    /**
+     * Up to {@code limit} questions after the cursor (null = from the newest), same
+     * filters and order as findFiltered, read with a range predicate instead of skip
+     */
+    List<Question> findAfter(String categoryId, QuestionLevel level, String search, QuestionCursor after, int limit);
+
+    List<QuestionMeta> findMetaAfter(String categoryId, QuestionLevel level, String search, QuestionCursor after, int limit);
+}
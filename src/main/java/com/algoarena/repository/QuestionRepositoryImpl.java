@@ -0,0 +1,316 @@
+// src/main/java/com/algoarena/repository/QuestionRepositoryImpl.java
+package com.algoarena.repository;
+
+import com.algoarena.dto.dsa.QuestionSummaryDTO;
+import com.algoarena.model.Question;
+import com.algoarena.model.QuestionLevel;
+import com.algoarena.model.QuestionMeta;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * MongoTemplate implementation of {@link QuestionRepositoryCustom}.
+ *
+ * Filters are combined with $and, sorted by createdAt desc with _id as a tie
+ * breaker (stable pages even for questions created in the same instant), and
+ * the count query only runs when the page alone cannot tell the total.
+ *
+ * findSummaryPage builds a /questions/summary page with one aggregation -
+ * filter, sort, skip and limit in the main pipeline so the sort uses the
+ * indexes, then joins for the category name and the caller's progress and
+ * approach count on the page rows only - and counts like findFiltered.
+ * findSummariesByIds runs the same joins for a page of ranked search hits.
+ */
+public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
+
+    private static final String QUESTIONS = "questions";
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt")
+            .and(Sort.by(Sort.Direction.DESC, "_id"));
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public Page<Question> findFiltered(String categoryId, QuestionLevel level, String search, Pageable pageable) {
+        Query filter = new Query(filterCriteria(categoryId, level, search));
+
+        Query pageQuery = Query.of(filter)
+                .with(NEWEST_FIRST)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize());
+        List<Question> content = mongoTemplate.find(pageQuery, Question.class);
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(Query.of(filter), Question.class));
+    }
+
+    @Override
+    public Page<QuestionSummaryDTO> findSummaryPage(String userId, String categoryId, QuestionLevel level,
+                                                    String search, Pageable pageable) {
+        Criteria criteria = filterCriteria(categoryId, level, search);
+
+        // Sort and slice first (served by the createdAt/_id indexes), then join the page rows only
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(criteria));
+        stages.add(Aggregation.sort(NEWEST_FIRST));
+        stages.add(Aggregation.skip(pageable.getOffset()));
+        stages.add(Aggregation.limit(pageable.getPageSize()));
+        stages.addAll(summaryStages(new ObjectId(userId)));
+        List<QuestionSummaryDTO> content = findSummaries(stages);
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(new Query(criteria), QUESTIONS));
+    }
+
+    @Override
+    public List<QuestionSummaryDTO> findSummariesByIds(String userId, List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Object> objectIds = ids.stream()
+                .map(id -> ObjectId.isValid(id) ? (Object) new ObjectId(id) : id)
+                .toList();
+
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(Criteria.where("_id").in(objectIds)));
+        stages.addAll(summaryStages(new ObjectId(userId)));
+
+        Map<String, QuestionSummaryDTO> byId = new HashMap<>();
+        findSummaries(stages).forEach(summary -> byId.put(summary.getId(), summary));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    // ==================== PROJECTIONS ====================
+
+    @Override
+    public Page<QuestionMeta> findMetaFiltered(String categoryId, QuestionLevel level, String search, Pageable pageable) {
+        Criteria criteria = filterCriteria(categoryId, level, search);
+
+        Query pageQuery = metaQuery(criteria)
+                .with(NEWEST_FIRST)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize());
+        List<QuestionMeta> content = findMeta(pageQuery);
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(new Query(criteria), QUESTIONS));
+    }
+
+    @Override
+    public List<QuestionMeta> findAllMeta() {
+        return findMeta(metaQuery(new Criteria()).with(NEWEST_FIRST));
+    }
+
+    @Override
+    public List<QuestionMeta> findMetaByCategory(String categoryId) {
+        return findMeta(metaQuery(filterCriteria(categoryId, null, null)).with(NEWEST_FIRST));
+    }
+
+    @Override
+    public List<QuestionMeta> findMetaByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Object> objectIds = ids.stream()
+                .map(id -> ObjectId.isValid(id) ? (Object) new ObjectId(id) : id)
+                .toList();
+        return findMeta(metaQuery(Criteria.where("_id").in(objectIds)));
+    }
+
+    // ==================== KEYSET PAGINATION ====================
+
+    @Override
+    public List<Question> findAfter(String categoryId, QuestionLevel level, String search, QuestionCursor after, int limit) {
+        Query query = new Query(keysetCriteria(filterCriteria(categoryId, level, search), after))
+                .with(NEWEST_FIRST)
+                .limit(limit);
+        return mongoTemplate.find(query, Question.class);
+    }
+
+    @Override
+    public List<QuestionMeta> findMetaAfter(String categoryId, QuestionLevel level, String search, QuestionCursor after, int limit) {
+        Query query = metaQuery(keysetCriteria(filterCriteria(categoryId, level, search), after))
+                .with(NEWEST_FIRST)
+                .limit(limit);
+        return findMeta(query);
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * filter AND (createdAt < c OR (createdAt == c AND _id < id)) - the tuple
+     * comparison matching the createdAt desc, _id desc order
+     */
+    private static Criteria keysetCriteria(Criteria filter, QuestionCursor after) {
+        if (after == null) {
+            return filter;
+        }
+        Date createdAt = new Date(after.createdAtMillis());
+        Object id = ObjectId.isValid(after.id()) ? new ObjectId(after.id()) : after.id();
+        Criteria position = new Criteria().orOperator(
+                Criteria.where("createdAt").lt(createdAt),
+                new Criteria().andOperator(
+                        Criteria.where("createdAt").is(createdAt),
+                        Criteria.where("_id").lt(id)));
+        return new Criteria().andOperator(filter, position);
+    }
+
+    private static Query metaQuery(Criteria criteria) {
+        Query query = new Query(criteria);
+        query.fields().include("title").include("level").include("category").include("createdAt");
+        return query;
+    }
+
+    /**
+     * Raw documents mapped by hand so the category DBRef is never resolved
+     */
+    private List<QuestionMeta> findMeta(Query query) {
+        List<QuestionMeta> metas = new ArrayList<>();
+        for (Document doc : mongoTemplate.find(query, Document.class, QUESTIONS)) {
+            Object category = doc.get("category");
+            metas.add(new QuestionMeta(
+                    doc.get("_id").toString(),
+                    doc.getString("title"),
+                    parseLevel(doc.getString("level")),
+                    category instanceof DBRef ref ? ref.getId().toString() : null,
+                    toLocalDateTime(doc.getDate("createdAt"))));
+        }
+        return metas;
+    }
+
+    private static Criteria filterCriteria(String categoryId, QuestionLevel level, String search) {
+        List<Criteria> criteria = new ArrayList<>();
+
+        if (categoryId != null && !categoryId.isEmpty()) {
+            // category is a DBRef - match on its id like the derived findByCategory_Id queries
+            Object id = ObjectId.isValid(categoryId) ? new ObjectId(categoryId) : categoryId;
+            criteria.add(Criteria.where("category.$id").is(id));
+        }
+        if (level != null) {
+            criteria.add(Criteria.where("level").is(level.name()));
+        }
+        if (search != null && !search.trim().isEmpty()) {
+            // Literal, case-insensitive match (user input is not a regex)
+            Pattern pattern = Pattern.compile(Pattern.quote(search.trim()), Pattern.CASE_INSENSITIVE);
+            criteria.add(new Criteria().orOperator(
+                    Criteria.where("title").regex(pattern),
+                    Criteria.where("statement").regex(pattern)));
+        }
+
+        if (criteria.isEmpty()) {
+            return new Criteria();
+        }
+        return criteria.size() == 1 ? criteria.get(0) : new Criteria().andOperator(criteria);
+    }
+
+    /**
+     * Joins turning question rows into summary rows: category name, the user's
+     * solved progress and their approach count
+     */
+    private static List<AggregationOperation> summaryStages(ObjectId userObjectId) {
+        List<Document> stages = List.of(
+                new Document("$addFields", new Document("categoryId", DbRefs.id("$category"))),
+                new Document("$lookup", new Document()
+                        .append("from", "categories")
+                        .append("localField", "categoryId")
+                        .append("foreignField", "_id")
+                        .append("as", "categoryDoc")),
+                userLookup("userprogress", userObjectId, "progress", List.of(
+                        new Document("$match", new Document("solved", true)),
+                        new Document("$limit", 1),
+                        new Document("$project", new Document("solvedAt", 1)))),
+                userLookup("approaches", userObjectId, "approaches", List.of(
+                        new Document("$count", "n"))),
+                new Document("$project", new Document()
+                        .append("title", 1)
+                        .append("level", 1)
+                        .append("createdAt", 1)
+                        .append("categoryId", new Document("$toString", "$categoryId"))
+                        .append("categoryName", new Document("$first", "$categoryDoc.name"))
+                        .append("solvedAt", new Document("$first", "$progress.solvedAt"))
+                        .append("solved", new Document("$gt", List.of(new Document("$size", "$progress"), 0)))
+                        .append("approachCount", new Document("$ifNull",
+                                List.of(new Document("$first", "$approaches.n"), 0)))));
+        return stages.stream().<AggregationOperation>map(stage -> context -> stage).toList();
+    }
+
+    private List<QuestionSummaryDTO> findSummaries(List<AggregationOperation> stages) {
+        List<QuestionSummaryDTO> summaries = new ArrayList<>();
+        for (Document doc : mongoTemplate.aggregate(Aggregation.newAggregation(stages), QUESTIONS, Document.class)) {
+            summaries.add(toSummary(doc));
+        }
+        return summaries;
+    }
+
+    /**
+     * $lookup of the caller's documents in a collection referencing questions by
+     * DBRef - matched on user first (plain query, can use an index), then on the
+     * question of the current row
+     */
+    private static Document userLookup(String from, ObjectId userId, String as, List<Document> tail) {
+        List<Document> pipeline = new ArrayList<>();
+        pipeline.add(new Document("$match", new Document("user.$id", userId)));
+        pipeline.add(new Document("$match", new Document("$expr",
+                new Document("$eq", List.of(DbRefs.id("$question"), "$$questionId")))));
+        pipeline.addAll(tail);
+
+        return new Document("$lookup", new Document()
+                .append("from", from)
+                .append("let", new Document("questionId", "$_id"))
+                .append("pipeline", pipeline)
+                .append("as", as));
+    }
+
+    private static QuestionSummaryDTO toSummary(Document doc) {
+        QuestionSummaryDTO summary = new QuestionSummaryDTO(
+                doc.get("_id").toString(),
+                doc.getString("title"),
+                doc.getString("categoryId"),
+                doc.getString("categoryName"),
+                parseLevel(doc.getString("level")),
+                toLocalDateTime(doc.getDate("createdAt")));
+
+        boolean solved = Boolean.TRUE.equals(doc.getBoolean("solved"));
+        summary.setUserProgress(new QuestionSummaryDTO.UserProgressSummary(
+                solved,
+                solved ? toLocalDateTime(doc.getDate("solvedAt")) : null,
+                ((Number) doc.get("approachCount", 0)).intValue()));
+        return summary;
+    }
+
+    private static QuestionLevel parseLevel(String level) {
+        for (QuestionLevel candidate : QuestionLevel.values()) {
+            if (candidate.name().equalsIgnoreCase(level)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return date != null ? LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()) : null;
+    }
+}
@@ -11,7 +11,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface SolutionRepository extends MongoRepository<Solution, String> {
+public interface SolutionRepository extends MongoRepository<Solution, String>, SolutionRepositoryCustom {
 
     // Find solutions by question
     List<Solution> findByQuestion_Id(String questionId);
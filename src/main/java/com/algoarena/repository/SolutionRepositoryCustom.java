@@ -0,0 +1,16 @@
+// src/main/java/com/algoarena/repository/SolutionRepositoryCustom.java
+package com.algoarena.repository;
+
+import com.algoarena.model.Solution;
+
+import java.util.List;
+
+public interface SolutionRepositoryCustom {
+
+    /**
+     * Solutions of a question, oldest first, with question set to the given id +
+     * title and createdBy (id + name) batch-loaded - two queries however many
+     * solutions there are, instead of resolving both DBRefs per solution
+     */
+    List<Solution> findByQuestionResolved(String questionId, String questionTitle);
+}
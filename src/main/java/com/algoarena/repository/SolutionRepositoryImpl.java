@@ -0,0 +1,89 @@
+// src/main/java/com/algoarena/repository/SolutionRepositoryImpl.java
+package com.algoarena.repository;
+
+import com.algoarena.model.Question;
+import com.algoarena.model.Solution;
+import com.algoarena.model.User;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MongoTemplate implementation of {@link SolutionRepositoryCustom}.
+ *
+ * Solutions are read as raw documents so the question/createdBy DBRefs are not
+ * resolved one by one; the question (id + title) comes from the caller and the
+ * creators are loaded with one query (names only) and set on the entities.
+ */
+public class SolutionRepositoryImpl implements SolutionRepositoryCustom {
+
+    private static final String SOLUTIONS = "solutions";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Solution> findByQuestionResolved(String questionId, String questionTitle) {
+        Query query = new Query(Criteria.where("question.$id").is(toId(questionId)))
+                .with(Sort.by(Sort.Direction.ASC, "createdAt"));
+        List<Document> docs = mongoTemplate.find(query, Document.class, SOLUTIONS);
+        if (docs.isEmpty()) {
+            return List.of();
+        }
+
+        // Collect the creator ids, then map each document without its DBRefs
+        Set<Object> creatorIds = new LinkedHashSet<>();
+        List<String> creatorRefs = new ArrayList<>(docs.size());
+        List<Solution> solutions = new ArrayList<>(docs.size());
+        for (Document doc : docs) {
+            Object createdBy = doc.remove("createdBy");
+            doc.remove("question");
+            if (createdBy instanceof DBRef ref) {
+                creatorIds.add(ref.getId());
+                creatorRefs.add(ref.getId().toString());
+            } else {
+                creatorRefs.add(null);
+            }
+            solutions.add(mongoTemplate.getConverter().read(Solution.class, doc));
+        }
+
+        // The caller already knows the question; only what SolutionDTO reads of it
+        Question question = new Question();
+        question.setId(questionId);
+        question.setTitle(questionTitle);
+
+        // One query for the creators, projected to what SolutionDTO reads
+        Query userQuery = new Query(Criteria.where("_id").in(creatorIds));
+        userQuery.fields().include("name");
+        Map<String, User> creators = new HashMap<>();
+        if (!creatorIds.isEmpty()) {
+            mongoTemplate.find(userQuery, User.class).forEach(user -> creators.put(user.getId(), user));
+        }
+
+        for (int i = 0; i < solutions.size(); i++) {
+            Solution solution = solutions.get(i);
+            solution.setQuestion(question);
+            String creatorId = creatorRefs.get(i);
+            solution.setCreatedBy(creatorId != null ? creators.get(creatorId) : null);
+        }
+        return solutions;
+    }
+
+    // ==================== HELPERS ====================
+
+    private static Object toId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
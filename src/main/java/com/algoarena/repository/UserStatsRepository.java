@@ -0,0 +1,10 @@
+// src/main/java/com/algoarena/repository/UserStatsRepository.java
+package com.algoarena.repository;
+
+import com.algoarena.model.UserStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserStatsRepository extends MongoRepository<UserStats, String> {
+}
@@ -0,0 +1,111 @@
+// src/main/java/com/algoarena/service/cache/CacheInvalidationService.java
+package com.algoarena.service.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Targeted eviction for user-scoped caches.
+ *
+ * Progress and approach writes only touch one user's data, so instead of
+ * clearing whole caches with allEntries = true we drop just that user's entries
+ * and keep everybody else's pages warm.
+ *
+ * Every user-scoped cache is keyed by the userId:
+ * - userQuestionOverlay: solved flags + approach counts merged onto the shared
+ *   question catalog (see UserQuestionOverlayService)
+ * - categoriesProgress / userProgressStats
+ * - userActivity: daily solve histograms (see UserStatsService)
+ *
+ * userSolvedSet (solved bitmaps, see SolvedSetService) is updated in place on
+ * progress writes rather than evicted.
+ */
+@Service
+public class CacheInvalidationService {
+
+    public static final String USER_QUESTION_OVERLAY = "userQuestionOverlay";
+    public static final String CATEGORIES_PROGRESS = "categoriesProgress";
+    public static final String USER_PROGRESS_STATS = "userProgressStats";
+    public static final String USER_SOLVED_SET = "userSolvedSet";
+    public static final String USER_ACTIVITY = "userActivity";
+
+    // Catalog-derived caches (user-independent or embedding catalog totals)
+    public static final String QUESTIONS_LIST = "questionsList";
+    public static final String QUESTION_META_LIST = "questionMetaList";
+    public static final String CATEGORIES_LIST = "categoriesList";
+    public static final String CATEGORY_STATS = "categoryStats";
+    public static final String ADMIN_STATS = "adminStats";
+
+    // Everything cleared when another instance changed the catalog (see CatalogVersionService)
+    public static final List<String> CATALOG_CACHES = List.of(
+            QUESTIONS_LIST, QUESTION_META_LIST, CATEGORIES_LIST, CATEGORY_STATS, ADMIN_STATS,
+            CATEGORIES_PROGRESS, USER_PROGRESS_STATS, SerializedResponseCache.CACHE_NAME);
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+
+    @Autowired
+    private RefreshAheadService refreshAheadService;
+
+    /**
+     * Evict every cached view that embeds this user's progress or approach counts
+     */
+    public void evictUser(String userId) {
+        if (userId == null) {
+            return;
+        }
+        evictKey(USER_QUESTION_OVERLAY, userId);
+        evictKey(CATEGORIES_PROGRESS, userId);
+        evictKey(USER_PROGRESS_STATS, userId);
+        evictKey(USER_ACTIVITY, userId);
+        catalogVersionService.bumpUserVersion(userId);
+    }
+
+    /**
+     * Evict per-user question overlays for everyone (e.g. approaches removed for a
+     * question across all users)
+     */
+    public void evictAllUsers() {
+        clear(USER_QUESTION_OVERLAY);
+        clear(CATEGORIES_PROGRESS);
+        clear(USER_PROGRESS_STATS);
+        clear(USER_ACTIVITY);
+        catalogVersionService.bumpAllUserVersions();
+    }
+
+    /**
+     * Single exit for every admin catalog mutation: let refresh-ahead note the
+     * global stats being read (it rebuilds them in the background), clear the
+     * given caches, then bump the persisted catalog version (so no ETag ever
+     * names evicted data)
+     */
+    public void catalogChanged(String... cacheNames) {
+        refreshAheadService.refreshSoon();
+        for (String cacheName : cacheNames) {
+            clear(cacheName);
+        }
+        catalogVersionService.bumpCatalogVersion();
+    }
+
+    // ==================== HELPERS ====================
+
+    private void evictKey(String cacheName, Object key) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+// src/main/java/com/algoarena/service/cache/CacheRefreshLoaders.java
+package com.algoarena.service.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Key -> value loaders for the global caches with refresh-after-write.
+ *
+ * A stale entry is served as is while Caffeine reloads it in the background
+ * through the loader its service registered here: an uncached computation
+ * from the cache key alone, never a replay of the request that first loaded
+ * it. Until a loader is registered (or when it fails) the stale value keeps
+ * being served until expire-after-write.
+ */
+@Component
+public class CacheRefreshLoaders {
+
+    private final Map<String, Function<Object, Object>> loaders = new ConcurrentHashMap<>();
+
+    /**
+     * @param loader uncached computation for one key of the cache (never null)
+     */
+    public void register(String cacheName, Function<Object, Object> loader) {
+        loaders.put(cacheName, loader);
+    }
+
+    /**
+     * Caffeine loader for a cache, resolved on every refresh (services register
+     * after the cache manager is built)
+     */
+    public CacheLoader<Object, Object> loaderFor(String cacheName) {
+        return key -> {
+            Function<Object, Object> loader = loaders.get(cacheName);
+            if (loader == null) {
+                throw new IllegalStateException("No refresh loader registered for " + cacheName);
+            }
+            return loader.apply(key);
+        };
+    }
+}
@@ -0,0 +1,171 @@
+// src/main/java/com/algoarena/service/cache/CacheStatsService.java
+package com.algoarena.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin view over the Caffeine caches behind @Cacheable.
+ *
+ * The same hit/miss/eviction/load counters are published to Micrometer as
+ * cache.* meters (tagged with the cache name) by Spring Boot's cache metrics
+ * auto-configuration, so they also show up under /actuator/metrics.
+ */
+@Service
+public class CacheStatsService {
+
+    private static final int MEMORY_SAMPLE_SIZE = 20;
+    private static final int DEFAULT_TOP_KEYS = 10;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Size, estimated memory, hit ratio and hottest keys for every cache
+     */
+    public List<Map<String, Object>> getAllCacheStats(Integer topKeys) {
+        int limit = topKeys != null && topKeys > 0 ? topKeys : DEFAULT_TOP_KEYS;
+
+        List<Map<String, Object>> caches = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache<Object, Object> nativeCache = getNativeCache(name);
+            if (nativeCache != null) {
+                caches.add(describe(name, nativeCache, limit));
+            }
+        }
+        return caches;
+    }
+
+    public boolean cacheExists(String name) {
+        return getNativeCache(name) != null;
+    }
+
+    /**
+     * Evict one key, every key starting with a prefix, or (neither given) the whole cache
+     *
+     * @return number of entries removed
+     */
+    public long evict(String name, String key, String prefix) {
+        Cache<Object, Object> nativeCache = getNativeCache(name);
+        if (nativeCache == null) {
+            throw new RuntimeException("Cache not found");
+        }
+
+        if (key != null && !key.isEmpty()) {
+            if (nativeCache.asMap().remove(key) != null) {
+                return 1;
+            }
+            // Structured keys (QuestionPageKey, CompositeKey) match by their displayed form
+            return nativeCache.asMap().keySet().removeIf(candidate -> key.equals(String.valueOf(candidate))) ? 1 : 0;
+        }
+
+        if (prefix != null && !prefix.isEmpty()) {
+            long removed = 0;
+            Iterator<Object> keys = nativeCache.asMap().keySet().iterator();
+            while (keys.hasNext()) {
+                if (String.valueOf(keys.next()).startsWith(prefix)) {
+                    keys.remove();
+                    removed++;
+                }
+            }
+            return removed;
+        }
+
+        long size = nativeCache.estimatedSize();
+        nativeCache.invalidateAll();
+        return size;
+    }
+
+    // ==================== HELPERS ====================
+
+    private Map<String, Object> describe(String name, Cache<Object, Object> nativeCache, int topKeys) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        CacheStats stats = nativeCache.stats();
+        long size = nativeCache.estimatedSize();
+
+        info.put("name", name);
+        info.put("size", size);
+
+        nativeCache.policy().eviction().ifPresent(eviction -> {
+            eviction.weightedSize().ifPresent(weighted -> info.put("weightedSize", weighted));
+            info.put("maximum", eviction.getMaximum());
+            info.put("weighted", eviction.isWeighted());
+        });
+        nativeCache.policy().expireAfterWrite()
+                .ifPresent(expiration -> info.put("expireAfterWriteSeconds", expiration.getExpiresAfter().toSeconds()));
+        nativeCache.policy().expireAfterAccess()
+                .ifPresent(expiration -> info.put("expireAfterAccessSeconds", expiration.getExpiresAfter().toSeconds()));
+
+        info.put("hitCount", stats.hitCount());
+        info.put("missCount", stats.missCount());
+        info.put("hitRatio", Math.round(stats.hitRate() * 10000.0) / 10000.0);
+        info.put("evictionCount", stats.evictionCount());
+        info.put("evictionWeight", stats.evictionWeight());
+        info.put("loadSuccessCount", stats.loadSuccessCount());
+        info.put("loadFailureCount", stats.loadFailureCount());
+        info.put("averageLoadMillis", Math.round(stats.averageLoadPenalty() / 10_000.0) / 100.0);
+
+        info.put("estimatedBytes", estimateBytes(nativeCache, size));
+        info.put("topKeys", topKeys(nativeCache.policy(), topKeys));
+
+        return info;
+    }
+
+    /**
+     * Rough footprint: average JSON size of a small sample of values x entry count.
+     * Serialized size is only a proxy for heap usage, but it is good enough to
+     * compare caches and spot a runaway one.
+     */
+    private long estimateBytes(Cache<Object, Object> nativeCache, long size) {
+        if (size == 0) {
+            return 0;
+        }
+
+        long sampledBytes = 0;
+        int sampled = 0;
+        for (Object value : nativeCache.asMap().values()) {
+            if (sampled >= MEMORY_SAMPLE_SIZE) {
+                break;
+            }
+            try {
+                Object payload = value instanceof Page<?> page ? page.getContent() : value;
+                sampledBytes += objectMapper.writeValueAsBytes(payload).length;
+                sampled++;
+            } catch (Exception e) {
+                // Value not serializable - leave it out of the sample
+            }
+        }
+
+        return sampled == 0 ? -1 : (sampledBytes / sampled) * size;
+    }
+
+    private List<String> topKeys(Policy<Object, Object> policy, int limit) {
+        // Hottest = most likely to be retained by the eviction policy (frequency + recency)
+        return policy.eviction()
+                .map(eviction -> eviction.hottest(limit).keySet().stream()
+                        .map(String::valueOf)
+                        .toList())
+                .orElse(List.of());
+    }
+
+    private Cache<Object, Object> getNativeCache(String name) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(name);
+        return cache instanceof CaffeineCache caffeineCache ? caffeineCache.getNativeCache() : null;
+    }
+}
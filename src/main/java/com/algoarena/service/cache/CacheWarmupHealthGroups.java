@@ -0,0 +1,70 @@
+// src/main/java/com/algoarena/service/cache/CacheWarmupHealthGroups.java
+package com.algoarena.service.cache;
+
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.health.AdditionalHealthEndpointPath;
+import org.springframework.boot.actuate.health.HealthEndpointGroup;
+import org.springframework.boot.actuate.health.HealthEndpointGroups;
+import org.springframework.boot.actuate.health.HealthEndpointGroupsPostProcessor;
+import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
+import org.springframework.boot.actuate.health.StatusAggregator;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the "cacheWarmup" component out of the root /actuator/health.
+ *
+ * The root endpoint is what the container HEALTHCHECK polls; a warm-up in
+ * progress must not make the whole container report 503. The component stays
+ * in the readiness group (application.properties), so only
+ * /actuator/health/readiness waits for the warm-up.
+ */
+@Component
+public class CacheWarmupHealthGroups implements HealthEndpointGroupsPostProcessor {
+
+    static final String COMPONENT = "cacheWarmup";
+
+    @Override
+    public HealthEndpointGroups postProcessHealthEndpointGroups(HealthEndpointGroups groups) {
+        Map<String, HealthEndpointGroup> additional = new HashMap<>();
+        for (String name : groups.getNames()) {
+            additional.put(name, groups.get(name));
+        }
+        return HealthEndpointGroups.of(new WithoutWarmup(groups.getPrimary()), additional);
+    }
+
+    private record WithoutWarmup(HealthEndpointGroup primary) implements HealthEndpointGroup {
+
+        @Override
+        public boolean isMember(String name) {
+            return !COMPONENT.equals(name) && primary.isMember(name);
+        }
+
+        @Override
+        public boolean showComponents(SecurityContext securityContext) {
+            return primary.showComponents(securityContext);
+        }
+
+        @Override
+        public boolean showDetails(SecurityContext securityContext) {
+            return primary.showDetails(securityContext);
+        }
+
+        @Override
+        public StatusAggregator getStatusAggregator() {
+            return primary.getStatusAggregator();
+        }
+
+        @Override
+        public HttpCodeStatusMapper getHttpCodeStatusMapper() {
+            return primary.getHttpCodeStatusMapper();
+        }
+
+        @Override
+        public AdditionalHealthEndpointPath getAdditionalPath() {
+            return primary.getAdditionalPath();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+// src/main/java/com/algoarena/service/cache/CacheWarmupHealthIndicator.java
+package com.algoarena.service.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * "cacheWarmup" health component - OUT_OF_SERVICE until the post-deploy warm-up
+ * has finished. Part of the readiness group, so /actuator/health/readiness only
+ * reports UP once the caches are warm; excluded from the root health (see
+ * CacheWarmupHealthGroups).
+ */
+@Component
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    @Autowired
+    private CacheWarmupService cacheWarmupService;
+
+    @Override
+    public Health health() {
+        CacheWarmupService.State state = cacheWarmupService.getState();
+        Health.Builder builder = state == CacheWarmupService.State.COMPLETED || state == CacheWarmupService.State.DISABLED
+                ? Health.up()
+                : Health.outOfService();
+        return builder.withDetails(cacheWarmupService.getDetails()).build();
+    }
+}
@@ -0,0 +1,189 @@
+// src/main/java/com/algoarena/service/cache/CacheWarmupService.java
+package com.algoarena.service.cache;
+
+import com.algoarena.dto.dsa.CategoryDTO;
+import com.algoarena.model.QuestionLevel;
+import com.algoarena.service.dsa.CategoryService;
+import com.algoarena.service.dsa.QuestionCatalogService;
+import com.algoarena.service.dsa.QuestionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Post-deploy cache warm-up.
+ *
+ * Runs in the background once the application is ready and preloads the global
+ * caches (categories, question counts, category stats) plus the first pages of
+ * the question catalog (full and projection pages) for every category and level filter. Until it finishes,
+ * the "cacheWarmup" health indicator keeps the readiness group OUT_OF_SERVICE so
+ * traffic is only routed to an instance with warm caches.
+ *
+ * Timings are published as the cache.warmup timer (tag stage=...).
+ */
+@Service
+public class CacheWarmupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmupService.class);
+
+    public enum State { PENDING, RUNNING, COMPLETED, DISABLED }
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionCatalogService questionCatalogService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;
+
+    // First N pages of each filter
+    @Value("${app.warmup.pages:2}")
+    private int pages;
+
+    @Value("${app.warmup.page-size:20}")
+    private int pageSize;
+
+    @Value("${app.warmup.parallelism:2}")
+    private int parallelism;
+
+    // Readiness is released after this even if some loads are still hanging
+    @Value("${app.warmup.timeout:2m}")
+    private Duration timeout;
+
+    private volatile State state = State.PENDING;
+    private volatile long durationMs;
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            state = State.DISABLED;
+            logger.info("Cache warm-up disabled");
+            return;
+        }
+
+        // Never block startup - readiness is held back by the health indicator instead
+        Thread warmupThread = new Thread(this::warmUp, "cache-warmup");
+        warmupThread.setDaemon(true);
+        warmupThread.start();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Map<String, Object> getDetails() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("state", state);
+        details.put("succeeded", succeeded.get());
+        details.put("failed", failed.get());
+        if (state == State.COMPLETED) {
+            details.put("durationMs", durationMs);
+        }
+        return details;
+    }
+
+    // ==================== WARM-UP PIPELINE ====================
+
+    private void warmUp() {
+        state = State.RUNNING;
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            // Stage 1: global caches (the category list also drives stage 2)
+            List<CategoryDTO> categories = timed("categories", categoryService::getAllCategories);
+            timed("questionCounts", questionService::getQuestionCounts);
+            timed("questionMeta", questionCatalogService::getAllMeta);
+
+            // Stage 2: catalog pages and per-category stats, optionally in parallel
+            List<Callable<Object>> tasks = new ArrayList<>();
+            addPageTasks(tasks, "questions", null, null);
+            for (QuestionLevel level : QuestionLevel.values()) {
+                addPageTasks(tasks, "questions.level", null, level.name());
+            }
+            if (categories != null) {
+                for (CategoryDTO category : categories) {
+                    addPageTasks(tasks, "questions.category", category.getId(), null);
+                    tasks.add(() -> timed("categoryStats", () -> categoryService.getCategoryStats(category.getId())));
+                }
+            }
+
+            List<Future<Object>> futures = executor.invokeAll(tasks, timeout.toMillis(), TimeUnit.MILLISECONDS);
+            long timedOut = futures.stream().filter(Future::isCancelled).count();
+            if (timedOut > 0) {
+                failed.addAndGet((int) timedOut);
+                logger.warn("Cache warm-up timed out with {} loads pending", timedOut);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("Cache warm-up aborted: {}", e.getMessage());
+        } finally {
+            executor.shutdownNow();
+            durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Timer.builder("cache.warmup").tag("stage", "total")
+                    .register(meterRegistry)
+                    .record(Duration.ofMillis(durationMs));
+            state = State.COMPLETED;
+            logger.info("Cache warm-up finished in {} ms ({} loads, {} failed)",
+                    durationMs, succeeded.get(), failed.get());
+        }
+    }
+
+    private void addPageTasks(List<Callable<Object>> tasks, String stage, String categoryId, String level) {
+        for (int page = 0; page < pages; page++) {
+            PageRequest pageable = PageRequest.of(page, pageSize);
+            tasks.add(() -> timed(stage, () -> questionService.getAllQuestions(pageable, categoryId, level, null)));
+            // Projection pages behind /questions/summary
+            tasks.add(() -> timed(stage, () -> questionCatalogService.getMetaPageFiltered(pageable, categoryId, level, null)));
+        }
+    }
+
+    private <T> T timed(String stage, Callable<T> load) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            T result = load.call();
+            succeeded.incrementAndGet();
+            return result;
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            logger.debug("Cache warm-up load failed ({}): {}", stage, e.getMessage());
+            return null;
+        } finally {
+            sample.stop(Timer.builder("cache.warmup").tag("stage", stage).register(meterRegistry));
+        }
+    }
+}
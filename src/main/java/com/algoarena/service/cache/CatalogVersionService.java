@@ -0,0 +1,193 @@
+// src/main/java/com/algoarena/service/cache/CatalogVersionService.java
+package com.algoarena.service.cache;
+
+import com.algoarena.model.CatalogVersion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versions behind the ETags of catalog and per-user endpoints.
+ *
+ * - Catalog version: persisted counter bumped on every admin mutation, so it
+ *   survives restarts and is shared by all instances (re-read every few seconds).
+ *   When the re-read finds a version bumped by another instance, the local
+ *   catalog caches are cleared before the new version is published, so the
+ *   new ETag never names data cached under the old one.
+ * - User version: in-memory per user, bumped on that user's progress/approach
+ *   writes. Values come from one process-wide sequence and the composite ETag
+ *   carries a boot id, so a restart or an evicted entry can never reproduce an
+ *   ETag a client already holds.
+ */
+@Service
+public class CatalogVersionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogVersionService.class);
+
+    private static final long UNKNOWN = -1;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private RefreshAheadService refreshAheadService;
+
+    @Value("${app.catalog-version.refresh-interval:10s}")
+    private Duration refreshInterval;
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+
+    private volatile long catalogVersion = UNKNOWN;
+    private volatile long loadedAtNanos;
+
+    // Last version read or written by this instance (kept while catalogVersion is unknown)
+    private long knownVersion = UNKNOWN;
+
+    private final AtomicLong userSequence = new AtomicLong();
+    private final Cache<String, Long> userVersions = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofDays(1))
+            .build();
+
+    // ==================== CATALOG VERSION ====================
+
+    /**
+     * Current catalog version, or -1 when it cannot be read (ETags are then skipped)
+     */
+    public long getCatalogVersion() {
+        if (catalogVersion == UNKNOWN || System.nanoTime() - loadedAtNanos > refreshInterval.toNanos()) {
+            reload();
+        }
+        return catalogVersion;
+    }
+
+    /**
+     * Bump after an admin mutation - call only once the affected caches are evicted
+     */
+    public long bumpCatalogVersion() {
+        try {
+            CatalogVersion updated = mongoTemplate.findAndModify(
+                    new Query(Criteria.where("_id").is(CatalogVersion.CATALOG_ID)),
+                    new Update().inc("version", 1).set("updatedAt", LocalDateTime.now()),
+                    FindAndModifyOptions.options().returnNew(true).upsert(true),
+                    CatalogVersion.class);
+            setCatalogVersion(updated != null ? updated.getVersion() : UNKNOWN);
+        } catch (Exception e) {
+            // Never keep serving the old version after a write we could not record
+            logger.warn("Catalog version bump failed: {}", e.getMessage());
+            setCatalogVersion(UNKNOWN);
+        }
+        return catalogVersion;
+    }
+
+    // ==================== USER VERSION ====================
+
+    public long getUserVersion(String userId) {
+        return userVersions.get(userId, id -> userSequence.incrementAndGet());
+    }
+
+    public void bumpUserVersion(String userId) {
+        userVersions.put(userId, userSequence.incrementAndGet());
+    }
+
+    public void bumpAllUserVersions() {
+        // Fresh entries are drawn from the sequence, so every user gets a new version
+        userVersions.invalidateAll();
+    }
+
+    // ==================== ETAGS ====================
+
+    /**
+     * Strong ETag for user-independent catalog responses, or null if unknown
+     */
+    public String catalogEtag() {
+        long version = getCatalogVersion();
+        return version == UNKNOWN ? null : "\"c" + version + "\"";
+    }
+
+    /**
+     * Composite ETag for responses mixing catalog data with one user's progress
+     */
+    public String userEtag(String userId) {
+        long version = getCatalogVersion();
+        return version == UNKNOWN ? null
+                : "\"c" + version + "-u" + bootId + "." + getUserVersion(userId) + "\"";
+    }
+
+    /**
+     * Conditional GET helper: sets the ETag and revalidation headers and returns
+     * true (with status 304 already set) when the client's copy is current
+     */
+    public boolean checkNotModified(ServletWebRequest webRequest, String etag) {
+        if (etag == null) {
+            return false;
+        }
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            // Authenticated data: browsers may keep it but must revalidate every time
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+        return webRequest.checkNotModified(etag);
+    }
+
+    // ==================== HELPERS ====================
+
+    private synchronized void reload() {
+        if (catalogVersion != UNKNOWN && System.nanoTime() - loadedAtNanos <= refreshInterval.toNanos()) {
+            return; // Another thread just reloaded
+        }
+        try {
+            CatalogVersion current = mongoTemplate.findById(CatalogVersion.CATALOG_ID, CatalogVersion.class);
+            long version = current != null ? current.getVersion() : 0;
+            if (knownVersion != UNKNOWN && version != knownVersion) {
+                clearCatalogCaches(version);
+            }
+            setCatalogVersion(version);
+        } catch (Exception e) {
+            logger.warn("Catalog version read failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Another instance changed the catalog: let refresh-ahead rebuild the global
+     * stats being read and drop what this instance cached from the old catalog
+     */
+    private void clearCatalogCaches(long version) {
+        logger.info("Catalog version {} -> {} changed elsewhere, clearing catalog caches", knownVersion, version);
+        refreshAheadService.refreshSoon();
+        for (String cacheName : CacheInvalidationService.CATALOG_CACHES) {
+            org.springframework.cache.Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private synchronized void setCatalogVersion(long version) {
+        if (version != UNKNOWN) {
+            knownVersion = version;
+        }
+        catalogVersion = version;
+        loadedAtNanos = System.nanoTime();
+    }
+}
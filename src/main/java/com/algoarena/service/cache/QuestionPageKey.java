@@ -0,0 +1,111 @@
+// src/main/java/com/algoarena/service/cache/QuestionPageKey.java
+package com.algoarena.service.cache;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.Objects;
+
+/**
+ * Immutable cache key for one filtered catalog page.
+ *
+ * Replaces the SpEL string "'page_' + #pageable.pageNumber + '_size_' + ..." -
+ * no expression evaluation or string building per lookup, the hash is computed
+ * once, and fields are compared individually so a search text containing "_"
+ * can no longer collide with another filter combination.
+ *
+ * Blank filters are normalized to null (same page as "no filter"); sort is not
+ * part of the key because the catalog queries ignore it.
+ */
+public final class QuestionPageKey {
+
+    private final int page;
+    private final int size;
+    private final String categoryId;
+    private final String level;
+    private final String search;
+    private final int hash;
+
+    public QuestionPageKey(int page, int size, String categoryId, String level, String search) {
+        this.page = page;
+        this.size = size;
+        this.categoryId = normalize(categoryId);
+        this.level = normalize(level);
+        this.search = normalize(search);
+        this.hash = computeHash();
+    }
+
+    public static QuestionPageKey of(Pageable pageable, String categoryId, String level, String search) {
+        return new QuestionPageKey(pageable.getPageNumber(), pageable.getPageSize(), categoryId, level, search);
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getCategoryId() {
+        return categoryId;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public String getSearch() {
+        return search;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof QuestionPageKey key) || hash != key.hash) {
+            return false;
+        }
+        return page == key.page
+                && size == key.size
+                && Objects.equals(categoryId, key.categoryId)
+                && Objects.equals(level, key.level)
+                && Objects.equals(search, key.search);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Readable form for the admin cache view (not used for lookups)
+     */
+    @Override
+    public String toString() {
+        return "page=" + page + ",size=" + size
+                + ",cat=" + (categoryId != null ? categoryId : "all")
+                + ",lvl=" + (level != null ? level : "all")
+                + ",search=" + (search != null ? search : "none");
+    }
+
+    private int computeHash() {
+        int result = 31 * page + size;
+        result = 31 * result + Objects.hashCode(categoryId);
+        result = 31 * result + Objects.hashCode(level);
+        result = 31 * result + Objects.hashCode(search);
+        return result;
+    }
+
+    /**
+     * Trimmed filter value, or null when blank. Services apply it to the filters
+     * before querying, so the query always matches the key it is cached under.
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
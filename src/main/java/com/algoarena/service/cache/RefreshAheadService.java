@@ -0,0 +1,221 @@
+// src/main/java/com/algoarena/service/cache/RefreshAheadService.java
+package com.algoarena.service.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Refresh-ahead for expensive global statistic caches.
+ *
+ * Services register (cache, keys, loader) once; a scheduler tick recomputes the
+ * registered entries that are about to expire and were read since they were
+ * last written, so entries nobody reads are left to expire instead of being
+ * recomputed forever. Missing entries are loaded by the next request, except
+ * that catalog writes call refreshSoon() before evicting: the entries that were
+ * being read are then rebuilt in the background right after the write instead
+ * of on the next user request.
+ *
+ * "Read since written" compares the entry's access and write ages, so the
+ * cache needs expire-after-access. Set to expire-after-write it never expires
+ * an entry earlier; without it every cached entry counts as read.
+ */
+@Service
+public class RefreshAheadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshAheadService.class);
+
+    private static final Duration READ_TOLERANCE = Duration.ofSeconds(1);
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${app.refresh-ahead.enabled:true}")
+    private boolean enabled;
+
+    // Refresh entries whose remaining time-to-live is below this
+    @Value("${app.refresh-ahead.before-expiry:5m}")
+    private Duration beforeExpiry;
+
+    // Delay between a write and the background rebuild (lets @CacheEvict run first)
+    @Value("${app.refresh-ahead.after-write-delay:2s}")
+    private Duration afterWriteDelay;
+
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+
+    // Bumped on every write; a refresh started before a write never stores its result
+    private final AtomicLong writeGeneration = new AtomicLong();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private final AtomicBoolean refreshRunning = new AtomicBoolean();
+
+    /**
+     * Register global cache entries to keep warm
+     *
+     * @param cacheName cache to populate
+     * @param keys      current keys to keep warm (re-read on every tick)
+     * @param loader    uncached computation for a key
+     */
+    public void register(String cacheName, Supplier<? extends Collection<?>> keys, Function<Object, Object> loader) {
+        registrations.add(new Registration(cacheName, keys, loader, ConcurrentHashMap.newKeySet()));
+    }
+
+    /**
+     * Called on catalog writes, before the caches are evicted: remember the
+     * entries that are being read and rebuild them shortly in the background
+     */
+    public void refreshSoon() {
+        writeGeneration.incrementAndGet();
+        if (!enabled) {
+            return;
+        }
+        for (Registration registration : registrations) {
+            CaffeineCache cache = getCache(registration.cacheName());
+            if (cache != null) {
+                for (Object key : cache.getNativeCache().asMap().keySet()) {
+                    if (wasReadSinceWrite(cache, key)) {
+                        registration.pendingKeys().add(key);
+                    }
+                }
+            }
+        }
+        scheduleRefresh();
+    }
+
+    /**
+     * Periodic tick on the shared scheduler pool
+     */
+    @Scheduled(initialDelayString = "${app.refresh-ahead.initial-delay:60000}",
+               fixedDelayString = "${app.refresh-ahead.interval:60000}")
+    public void refreshDue() {
+        runRefresh();
+    }
+
+    // ==================== HELPERS ====================
+
+    private void scheduleRefresh() {
+        if (!enabled || !refreshScheduled.compareAndSet(false, true)) {
+            return; // Already pending - one rebuild covers a burst of writes
+        }
+        taskScheduler.schedule(() -> {
+            refreshScheduled.set(false);
+            if (!runRefresh()) {
+                // A tick is mid-run with results from before the write; go again after it
+                scheduleRefresh();
+            }
+        }, Instant.now().plus(afterWriteDelay));
+    }
+
+    private boolean runRefresh() {
+        if (!enabled || !refreshRunning.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            for (Registration registration : registrations) {
+                refresh(registration);
+            }
+            return true;
+        } finally {
+            refreshRunning.set(false);
+        }
+    }
+
+    private void refresh(Registration registration) {
+        CaffeineCache cache = getCache(registration.cacheName());
+        if (cache == null) {
+            return;
+        }
+
+        Collection<?> keys;
+        try {
+            keys = registration.keys().get();
+        } catch (Exception e) {
+            logger.warn("Refresh-ahead could not list keys for {}: {}", registration.cacheName(), e.getMessage());
+            return;
+        }
+
+        for (Object key : keys) {
+            // Pending: read before a write evicted it, so rebuild it while it is missing
+            boolean rebuild = registration.pendingKeys().remove(key)
+                    && cache.getNativeCache().policy().getIfPresentQuietly(key) == null;
+            if (!rebuild && !isDue(cache, key)) {
+                continue;
+            }
+            long generation = writeGeneration.get();
+            try {
+                Object value = registration.loader().apply(key);
+                if (value != null && generation == writeGeneration.get()) {
+                    cache.put(key, value);
+                } else if (rebuild && generation != writeGeneration.get()) {
+                    // Computed before another write; the refresh after that write retries it
+                    registration.pendingKeys().add(key);
+                }
+            } catch (Exception e) {
+                // Leave the entry alone; a user request or the next tick will load it
+                logger.warn("Refresh-ahead failed for {}[{}]: {}", registration.cacheName(), key, e.getMessage());
+            }
+        }
+        // Keys that no longer exist (e.g. a deleted category) are never rebuilt
+        registration.pendingKeys().retainAll(Set.copyOf(keys));
+    }
+
+    /**
+     * Cached, read since it was last written, and within before-expiry of expiring
+     */
+    private boolean isDue(CaffeineCache cache, Object key) {
+        var nativeCache = cache.getNativeCache();
+        if (nativeCache.policy().getIfPresentQuietly(key) == null || !wasReadSinceWrite(cache, key)) {
+            return false;
+        }
+        Optional<Duration> remaining = nativeCache.policy().expireAfterWrite()
+                .flatMap(expiration -> expiration.ageOf(key)
+                        .map(age -> expiration.getExpiresAfter().minus(age)));
+        return remaining.map(ttl -> ttl.compareTo(beforeExpiry) <= 0).orElse(false);
+    }
+
+    /**
+     * A write sets both ages to zero; only a later read makes the access age the
+     * smaller one. Caffeine records times loosely (a rewrite within a second may
+     * keep the old write time), so reads in the first second do not count.
+     */
+    private boolean wasReadSinceWrite(CaffeineCache cache, Object key) {
+        var policy = cache.getNativeCache().policy();
+        Optional<Duration> writeAge = policy.expireAfterWrite().flatMap(expiration -> expiration.ageOf(key));
+        Optional<Duration> accessAge = policy.expireAfterAccess().flatMap(expiration -> expiration.ageOf(key));
+        if (writeAge.isEmpty() || accessAge.isEmpty()) {
+            return true; // Cannot tell - keep it warm
+        }
+        return writeAge.get().minus(accessAge.get()).compareTo(READ_TOLERANCE) > 0;
+    }
+
+    private CaffeineCache getCache(String cacheName) {
+        return cacheManager.getCache(cacheName) instanceof CaffeineCache caffeineCache ? caffeineCache : null;
+    }
+
+    private record Registration(String cacheName,
+                                Supplier<? extends Collection<?>> keys,
+                                Function<Object, Object> loader,
+                                Set<Object> pendingKeys) {
+    }
+}
@@ -0,0 +1,133 @@
+// src/main/java/com/algoarena/service/cache/SerializedResponseCache.java
+package com.algoarena.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response-level cache of final JSON bytes for hot, user-independent GET endpoints.
+ *
+ * Each entry remembers the (already cached) source object it was rendered from.
+ * As long as the underlying @Cacheable entry is the same instance, requests get
+ * the stored UTF-8 bytes - or the precomputed gzip variant - written straight
+ * to the servlet output stream with no Jackson work. When the source cache is
+ * evicted or refreshed a new instance comes back and the bytes are rebuilt once.
+ */
+@Service
+public class SerializedResponseCache {
+
+    public static final String CACHE_NAME = "serializedResponses";
+
+    // Below this size gzip costs more than it saves
+    private static final int MIN_GZIP_BYTES = 1024;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Write the JSON for {@code source} to the response, reusing cached bytes when
+     * {@code source} is the instance they were rendered from
+     *
+     * @param key     response cache key (endpoint name or a structured key)
+     * @param source  cached object the payload is derived from, compared by identity
+     * @param payload builds the object to serialize (only called on a rebuild)
+     */
+    public void write(Object key, Object source, Supplier<?> payload,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Entry entry = getEntry(key, source, payload);
+
+        boolean gzip = entry.gzip() != null && acceptsGzip(request);
+        byte[] body = gzip ? entry.gzip() : entry.json();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+
+        OutputStream out = response.getOutputStream();
+        out.write(body);
+        out.flush();
+    }
+
+    /**
+     * Same as {@link #write} when the source object is itself the payload
+     */
+    public void write(Object key, Object source,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        write(key, source, () -> source, request, response);
+    }
+
+    // ==================== HELPERS ====================
+
+    private Entry getEntry(Object key, Object source, Supplier<?> payload) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        Entry entry = cache != null ? cache.get(key, Entry.class) : null;
+        if (entry != null && entry.source() == source) {
+            return entry;
+        }
+
+        entry = render(source, payload.get());
+        if (cache != null) {
+            cache.put(key, entry);
+        }
+        return entry;
+    }
+
+    private Entry render(Object source, Object payload) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(payload);
+            byte[] gzip = json.length >= MIN_GZIP_BYTES ? gzip(json) : null;
+            return new Entry(source, json, gzip != null && gzip.length < json.length ? gzip : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(buffer)) {
+            gzipStream.write(json);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    /**
+     * Rendered bytes plus the source instance they came from
+     */
+    public record Entry(Object source, byte[] json, byte[] gzip) {
+
+        /**
+         * Cache weight in KiB of stored bytes (min 1)
+         */
+        public int weightKb() {
+            long bytes = (long) json.length + (gzip != null ? gzip.length : 0);
+            return (int) Math.max(1, bytes / 1024);
+        }
+    }
+}
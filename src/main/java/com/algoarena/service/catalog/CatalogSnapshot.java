@@ -0,0 +1,350 @@
+// src/main/java/com/algoarena/service/catalog/CatalogSnapshot.java
+package com.algoarena.service.catalog;
+
+import com.algoarena.model.QuestionLevel;
+import com.algoarena.model.QuestionMeta;
+import com.algoarena.repository.QuestionCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable in-memory copy of the question/category catalog.
+ *
+ * - Questions live in parallel arrays indexed by an int ordinal; ordinals follow
+ *   the newest-first order (createdAt desc, id desc) used everywhere else
+ * - Ordinal lists per category, per level and per category x level are built
+ *   once, so every filter combination is already sorted and counted
+ * - Categories are kept in name order with their question lists
+ *
+ * Never modified after construction: writes build a new snapshot
+ * (withQuestion / withoutQuestions / withCategory / withoutCategory) which
+ * CatalogSnapshotService publishes with a single reference swap, so readers
+ * never lock and never see a half-applied change.
+ */
+public final class CatalogSnapshot {
+
+    private static final int[] NONE = new int[0];
+
+    private static final Comparator<QuestionMeta> NEWEST_FIRST = Comparator
+            .comparingLong((QuestionMeta question) -> millis(question.createdAt())).reversed()
+            .thenComparing(QuestionMeta::id, Comparator.reverseOrder());
+
+    // Questions by ordinal
+    private final String[] ids;
+    private final String[] titles;
+    private final QuestionLevel[] levels;
+    private final String[] categoryIds;
+    private final LocalDateTime[] createdAt;
+    private final long[] createdAtMillis;
+    private final Map<String, Integer> ordinals;
+
+    // Categories in name order
+    private final Map<String, String> categoryNames;
+    private final Map<String, Integer> categoryOrdinals;
+
+    // Pre-sorted ordinal lists
+    private final int[] all;
+    private final int[][] byLevel;
+    private final int[][] byCategory;
+    private final int[][][] byCategoryLevel;
+
+    private CatalogSnapshot(List<QuestionMeta> questions, Map<String, String> categories) {
+        int size = questions.size();
+        ids = new String[size];
+        titles = new String[size];
+        levels = new QuestionLevel[size];
+        categoryIds = new String[size];
+        createdAt = new LocalDateTime[size];
+        createdAtMillis = new long[size];
+        ordinals = new HashMap<>(size * 2);
+
+        categoryNames = new LinkedHashMap<>();
+        categories.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.nullsLast(Comparator.<String>naturalOrder())))
+                .forEach(category -> categoryNames.put(category.getKey(), category.getValue()));
+        categoryOrdinals = new HashMap<>();
+        for (String categoryId : categoryNames.keySet()) {
+            categoryOrdinals.put(categoryId, categoryOrdinals.size());
+        }
+
+        int levelCount = QuestionLevel.values().length;
+        List<List<Integer>> levelLists = lists(levelCount);
+        List<List<Integer>> categoryLists = lists(categoryOrdinals.size());
+        List<List<List<Integer>>> categoryLevelLists = new ArrayList<>(categoryOrdinals.size());
+        for (int i = 0; i < categoryOrdinals.size(); i++) {
+            categoryLevelLists.add(lists(levelCount));
+        }
+
+        all = new int[size];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            QuestionMeta question = questions.get(ordinal);
+            ids[ordinal] = question.id();
+            titles[ordinal] = question.title();
+            levels[ordinal] = question.level();
+            categoryIds[ordinal] = question.categoryId();
+            createdAt[ordinal] = question.createdAt();
+            createdAtMillis[ordinal] = millis(question.createdAt());
+            ordinals.put(question.id(), ordinal);
+            all[ordinal] = ordinal;
+
+            Integer category = question.categoryId() != null ? categoryOrdinals.get(question.categoryId()) : null;
+            if (question.level() != null) {
+                levelLists.get(question.level().ordinal()).add(ordinal);
+            }
+            if (category != null) {
+                categoryLists.get(category).add(ordinal);
+                if (question.level() != null) {
+                    categoryLevelLists.get(category).get(question.level().ordinal()).add(ordinal);
+                }
+            }
+        }
+
+        byLevel = toArrays(levelLists);
+        byCategory = toArrays(categoryLists);
+        byCategoryLevel = new int[categoryLevelLists.size()][][];
+        for (int i = 0; i < byCategoryLevel.length; i++) {
+            byCategoryLevel[i] = toArrays(categoryLevelLists.get(i));
+        }
+    }
+
+    /**
+     * @param categories category id -> name (every category, including empty ones)
+     */
+    public static CatalogSnapshot of(Collection<QuestionMeta> questions, Map<String, String> categories) {
+        List<QuestionMeta> sorted = new ArrayList<>(questions.size());
+        Set<String> seen = new HashSet<>();
+        for (QuestionMeta question : questions) {
+            if (question.id() != null && seen.add(question.id())) {
+                sorted.add(question);
+            }
+        }
+        sorted.sort(NEWEST_FIRST);
+        return new CatalogSnapshot(sorted, categories);
+    }
+
+    // ==================== COPY-ON-WRITE ====================
+
+    /**
+     * New snapshot with the question added or replaced
+     */
+    public CatalogSnapshot withQuestion(QuestionMeta question) {
+        List<QuestionMeta> questions = new ArrayList<>(ids.length + 1);
+        for (int ordinal = 0; ordinal < ids.length; ordinal++) {
+            if (!ids[ordinal].equals(question.id())) {
+                questions.add(get(ordinal));
+            }
+        }
+        questions.add(question);
+        return of(questions, categoryNames);
+    }
+
+    public CatalogSnapshot withoutQuestions(Collection<String> questionIds) {
+        Set<String> removed = new HashSet<>(questionIds);
+        List<QuestionMeta> questions = new ArrayList<>(ids.length);
+        for (int ordinal = 0; ordinal < ids.length; ordinal++) {
+            if (!removed.contains(ids[ordinal])) {
+                questions.add(get(ordinal));
+            }
+        }
+        return of(questions, categoryNames);
+    }
+
+    /**
+     * New snapshot with the category added or renamed
+     */
+    public CatalogSnapshot withCategory(String categoryId, String name) {
+        Map<String, String> categories = new HashMap<>(categoryNames);
+        categories.put(categoryId, name);
+        return of(questions(), categories);
+    }
+
+    /**
+     * New snapshot without the category and its questions
+     */
+    public CatalogSnapshot withoutCategory(String categoryId) {
+        Map<String, String> categories = new HashMap<>(categoryNames);
+        categories.remove(categoryId);
+        List<QuestionMeta> questions = new ArrayList<>(ids.length);
+        for (int ordinal = 0; ordinal < ids.length; ordinal++) {
+            if (!categoryId.equals(categoryIds[ordinal])) {
+                questions.add(get(ordinal));
+            }
+        }
+        return of(questions, categories);
+    }
+
+    // ==================== QUESTIONS ====================
+
+    public int size() {
+        return ids.length;
+    }
+
+    public QuestionMeta get(int ordinal) {
+        return new QuestionMeta(ids[ordinal], titles[ordinal], levels[ordinal], categoryIds[ordinal], createdAt[ordinal]);
+    }
+
+    /**
+     * @return the question, or null if it is not in the catalog
+     */
+    public QuestionMeta find(String questionId) {
+        Integer ordinal = questionId != null ? ordinals.get(questionId) : null;
+        return ordinal != null ? get(ordinal) : null;
+    }
+
+    public boolean contains(String questionId) {
+        return questionId != null && ordinals.containsKey(questionId);
+    }
+
+    /**
+     * Number of questions matching the filters (null = any)
+     */
+    public int count(String categoryId, QuestionLevel level) {
+        return ordinals(categoryId, level).length;
+    }
+
+    /**
+     * Every question matching the filters, newest first (null = any)
+     */
+    public List<QuestionMeta> list(String categoryId, QuestionLevel level) {
+        return toMetas(ordinals(categoryId, level), 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Every question, newest first
+     */
+    public List<QuestionMeta> questions() {
+        return toMetas(all, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * One page of the filtered questions, newest first
+     */
+    public Page<QuestionMeta> page(String categoryId, QuestionLevel level, Pageable pageable) {
+        int[] matches = ordinals(categoryId, level);
+        int start = (int) Math.min(pageable.getOffset(), matches.length);
+        return new PageImpl<>(toMetas(matches, start, pageable.getPageSize()), pageable, matches.length);
+    }
+
+    /**
+     * One page of an already ranked id list (search results); ids no longer in
+     * the catalog are skipped
+     */
+    public Page<QuestionMeta> page(List<String> rankedIds, Pageable pageable) {
+        int start = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int end = Math.min(start + pageable.getPageSize(), rankedIds.size());
+        List<QuestionMeta> content = new ArrayList<>(end - start);
+        for (String questionId : rankedIds.subList(start, end)) {
+            QuestionMeta question = find(questionId);
+            if (question != null) {
+                content.add(question);
+            }
+        }
+        return new PageImpl<>(content, pageable, rankedIds.size());
+    }
+
+    /**
+     * Up to {@code limit} filtered questions after the cursor position (null =
+     * from the start) - binary search on the pre-sorted ordinal list
+     */
+    public List<QuestionMeta> after(String categoryId, QuestionLevel level, QuestionCursor cursor, int limit) {
+        int[] matches = ordinals(categoryId, level);
+        int start = 0;
+        if (cursor != null) {
+            int high = matches.length;
+            while (start < high) {
+                int mid = (start + high) >>> 1;
+                if (isAfter(matches[mid], cursor)) {
+                    high = mid;
+                } else {
+                    start = mid + 1;
+                }
+            }
+        }
+        return toMetas(matches, start, limit);
+    }
+
+    // ==================== CATEGORIES ====================
+
+    /**
+     * Category ids in name order
+     */
+    public List<String> categoryIds() {
+        return List.copyOf(categoryNames.keySet());
+    }
+
+    public String categoryName(String categoryId) {
+        return categoryId != null ? categoryNames.get(categoryId) : null;
+    }
+
+    /**
+     * Category id -> name, in name order (read-only)
+     */
+    public Map<String, String> categoryNames() {
+        return Collections.unmodifiableMap(categoryNames);
+    }
+
+    // ==================== HELPERS ====================
+
+    private int[] ordinals(String categoryId, QuestionLevel level) {
+        if (categoryId == null || categoryId.isEmpty()) {
+            return level == null ? all : byLevel[level.ordinal()];
+        }
+        Integer category = categoryOrdinals.get(categoryId);
+        if (category == null) {
+            return NONE;
+        }
+        return level == null ? byCategory[category] : byCategoryLevel[category][level.ordinal()];
+    }
+
+    private List<QuestionMeta> toMetas(int[] matches, int start, int limit) {
+        int end = (int) Math.min((long) start + limit, matches.length);
+        List<QuestionMeta> metas = new ArrayList<>(Math.max(0, end - start));
+        for (int i = start; i < end; i++) {
+            metas.add(get(matches[i]));
+        }
+        return metas;
+    }
+
+    /**
+     * (createdAt, id) strictly after the cursor in newest-first order
+     */
+    private boolean isAfter(int ordinal, QuestionCursor cursor) {
+        long millis = createdAtMillis[ordinal];
+        return millis < cursor.createdAtMillis()
+                || (millis == cursor.createdAtMillis() && ids[ordinal].compareTo(cursor.id()) < 0);
+    }
+
+    // Same conversion as QuestionCursor.of, so cursors and ordinals agree
+    private static long millis(LocalDateTime createdAt) {
+        return QuestionCursor.of(createdAt, null).createdAtMillis();
+    }
+
+    private static List<List<Integer>> lists(int count) {
+        List<List<Integer>> lists = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lists.add(new ArrayList<>());
+        }
+        return lists;
+    }
+
+    private static int[][] toArrays(List<List<Integer>> lists) {
+        int[][] arrays = new int[lists.size()][];
+        for (int i = 0; i < arrays.length; i++) {
+            arrays[i] = lists.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return arrays;
+    }
+}
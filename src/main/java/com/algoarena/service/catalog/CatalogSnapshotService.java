@@ -0,0 +1,168 @@
+// src/main/java/com/algoarena/service/catalog/CatalogSnapshotService.java
+package com.algoarena.service.catalog;
+
+import com.algoarena.model.Category;
+import com.algoarena.model.Question;
+import com.algoarena.model.QuestionMeta;
+import com.algoarena.repository.CategoryRepository;
+import com.algoarena.repository.QuestionRepository;
+import com.algoarena.service.cache.CatalogVersionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the current {@link CatalogSnapshot}.
+ *
+ * Loaded in the background once the application is ready; until then
+ * {@link #current()} is null and callers read MongoDB as before. Admin writes
+ * (QuestionService/CategoryService) derive a new snapshot from the current one
+ * and publish it with one reference swap - writers are serialized, readers
+ * never lock.
+ *
+ * Writes made through other instances only show up in the persisted catalog
+ * version, so a periodic check reloads the snapshot whenever that version
+ * differs from the one it was loaded at (this instance's own writes also
+ * trigger one reload), and at least every reload-interval regardless.
+ */
+@Service
+public class CatalogSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotService.class);
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+
+    @Value("${app.catalog.snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.catalog.snapshot.reload-interval:10m}")
+    private Duration reloadInterval;
+
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+
+    // Catalog version read just before the last load (-1 = unknown) and when it finished
+    private volatile long loadedVersion = -1;
+    private volatile long loadedAtMillis;
+    private volatile boolean loadFailed;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            logger.info("Catalog snapshot disabled");
+            return;
+        }
+
+        Thread loadThread = new Thread(this::reload, "catalog-snapshot");
+        loadThread.setDaemon(true);
+        loadThread.start();
+    }
+
+    /**
+     * Current snapshot, or null until the first load completes
+     */
+    public CatalogSnapshot current() {
+        return current.get();
+    }
+
+    public boolean isReady() {
+        return current.get() != null;
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    /**
+     * Load the whole catalog (projections and category names only). Synchronized
+     * with the incremental updates so a write during the load is never lost.
+     */
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        try {
+            // Read before the catalog: a write racing the load bumps it again and is reloaded next check
+            long version = catalogVersionService.getCatalogVersion();
+            List<QuestionMeta> questions = questionRepository.findAllMeta();
+            Map<String, String> categories = new HashMap<>();
+            categoryRepository.findAllNames().forEach(category -> categories.put(category.getId(), category.getName()));
+
+            current.set(CatalogSnapshot.of(questions, categories));
+            loadedVersion = version;
+            loadedAtMillis = System.currentTimeMillis();
+            loadFailed = false;
+            logger.info("Catalog snapshot loaded: {} questions, {} categories in {} ms",
+                    questions.size(), categories.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            loadFailed = true;
+            logger.warn("Catalog snapshot load failed, reading from database: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reload when another instance changed the catalog (the persisted version
+     * moved), when the snapshot is older than reload-interval, or to retry a
+     * failed load. Skipped while the startup load is still running.
+     */
+    @Scheduled(initialDelayString = "${app.catalog.snapshot.check-interval:10s}",
+               fixedDelayString = "${app.catalog.snapshot.check-interval:10s}")
+    public void reloadIfStale() {
+        if (!enabled || (current.get() == null && !loadFailed)) {
+            return;
+        }
+        long version = catalogVersionService.getCatalogVersion();
+        boolean versionChanged = version != -1 && version != loadedVersion;
+        boolean expired = System.currentTimeMillis() - loadedAtMillis > reloadInterval.toMillis();
+        if (loadFailed || versionChanged || expired) {
+            reload();
+        }
+    }
+
+    public synchronized void questionSaved(Question question) {
+        publish(snapshot -> snapshot.withQuestion(QuestionMeta.fromEntity(question)));
+    }
+
+    public synchronized void questionsRemoved(Collection<String> questionIds) {
+        publish(snapshot -> snapshot.withoutQuestions(questionIds));
+    }
+
+    public synchronized void categorySaved(Category category) {
+        publish(snapshot -> snapshot.withCategory(category.getId(), category.getName()));
+    }
+
+    /**
+     * Drops the category together with its questions
+     */
+    public synchronized void categoryRemoved(String categoryId) {
+        publish(snapshot -> snapshot.withoutCategory(categoryId));
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Copy-on-write: derive the next snapshot and swap it in (no-op before the
+     * first load - the load itself will read the change from MongoDB)
+     */
+    private void publish(UnaryOperator<CatalogSnapshot> change) {
+        CatalogSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            current.set(change.apply(snapshot));
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.algoarena.dto.compiler.ExecutionResponse;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -88,7 +89,8 @@ public class PistonService {
         }
     }
 
-    // Get available runtimes from Piston API
+    // Get available runtimes from Piston API - CACHED, the list only changes on Piston upgrades
+    @Cacheable(value = "compilerRuntimes", sync = true)
     public List<Map<String, Object>> getRuntimes() {
         try {
             String runtimesUrl = appConfig.getPiston().getApiUrl() + "/runtimes";
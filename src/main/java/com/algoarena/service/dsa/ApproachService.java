@@ -7,6 +7,7 @@ import com.algoarena.model.Question;
 import com.algoarena.model.User;
 import com.algoarena.repository.ApproachRepository;
 import com.algoarena.repository.QuestionRepository;
+import com.algoarena.service.cache.CacheInvalidationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +26,9 @@ public class ApproachService {
     @Autowired
     private QuestionRepository questionRepository;
 
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
     // Constants for limits
     private static final int MAX_APPROACHES_PER_QUESTION = 3;
     private static final int MAX_TOTAL_SIZE_PER_USER_PER_QUESTION = 15 * 1024; // 15KB
@@ -80,6 +84,10 @@ public class ApproachService {
         approach.setContentSize(contentSize);
 
         Approach savedApproach = approachRepository.save(approach);
+
+        // Approach counts are embedded in the user's question summary pages
+        cacheInvalidationService.evictUser(user.getId());
+
         return ApproachDTO.fromEntity(savedApproach);
     }
 
@@ -121,10 +129,13 @@ public class ApproachService {
 
     // Delete approach
     public void deleteApproach(String id) {
-        if (!approachRepository.existsById(id)) {
-            throw new RuntimeException("Approach not found");
-        }
+        Approach approach = approachRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Approach not found"));
         approachRepository.deleteById(id);
+
+        if (approach.getUser() != null) {
+            cacheInvalidationService.evictUser(approach.getUser().getId());
+        }
     }
 
     // Count approaches by question and user
@@ -272,10 +283,12 @@ public class ApproachService {
     // Delete all approaches for a question (used when question is deleted)
     public void deleteAllApproachesForQuestion(String questionId) {
         approachRepository.deleteByQuestion_Id(questionId);
+        cacheInvalidationService.evictAllUsers();
     }
 
     // Delete all approaches by a user for a specific question
     public void deleteAllApproachesByUserForQuestion(String userId, String questionId) {
         approachRepository.deleteByQuestion_IdAndUser_Id(questionId, userId);
+        cacheInvalidationService.evictUser(userId);
     }
 }
\ No newline at end of file
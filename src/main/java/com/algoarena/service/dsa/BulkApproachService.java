@@ -2,11 +2,12 @@
 package com.algoarena.service.dsa;
 
 import com.algoarena.repository.ApproachRepository;
+import com.algoarena.repository.DbRefs;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
-import org.springframework.data.mongodb.core.aggregation.GroupOperation;
 import org.springframework.data.mongodb.core.aggregation.MatchOperation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
@@ -55,8 +56,8 @@ public class BulkApproachService {
                        .and("question.$id").in(questionObjectIds)
             );
 
-            GroupOperation groupStage = Aggregation.group("question.$id")
-                    .count().as("count");
+            // "$question.$id" is not a valid group path - group on the DBRef id expression
+            AggregationOperation groupStage = DbRefs.countById("$question");
 
             Aggregation aggregation = Aggregation.newAggregation(
                 matchStage,
@@ -98,6 +99,32 @@ public class BulkApproachService {
         }
     }
 
+    /**
+     * BULK: Get approach counts for every question a user has written approaches for
+     * Only questions with at least one approach are present in the returned map
+     *
+     * @param userId User ID to count approaches for
+     * @return Map of questionId -> count
+     */
+    public Map<String, Integer> getApproachCountsForUser(String userId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("user.$id").is(new ObjectId(userId))),
+            DbRefs.countById("$question")
+        );
+
+        AggregationResults<ApproachCountResult> results = mongoTemplate.aggregate(
+            aggregation,
+            "approaches",
+            ApproachCountResult.class
+        );
+
+        Map<String, Integer> countMap = new HashMap<>();
+        for (ApproachCountResult result : results.getMappedResults()) {
+            countMap.put(result.getId().toString(), result.getCount());
+        }
+        return countMap;
+    }
+
     /**
      * Fallback method using individual queries if bulk aggregation fails
      */
@@ -5,18 +5,25 @@ package com.algoarena.service.dsa;
 import com.algoarena.dto.dsa.CategoryDTO;
 import com.algoarena.dto.dsa.CategorySummaryDTO;
 import com.algoarena.model.Category;
-import com.algoarena.model.Question;
 import com.algoarena.model.QuestionLevel;
+import com.algoarena.model.QuestionMeta;
 import com.algoarena.model.User;
-import com.algoarena.model.UserProgress;
 import com.algoarena.repository.CategoryRepository;
 import com.algoarena.repository.QuestionRepository;
 import com.algoarena.repository.SolutionRepository;
 import com.algoarena.repository.ApproachRepository;
 import com.algoarena.repository.UserProgressRepository;
+import com.algoarena.service.cache.CacheInvalidationService;
+import com.algoarena.service.cache.CacheRefreshLoaders;
+import com.algoarena.service.cache.RefreshAheadService;
+import com.algoarena.service.catalog.CatalogSnapshot;
+import com.algoarena.service.catalog.CatalogSnapshotService;
+import com.algoarena.service.progress.SolvedBitmap;
+import com.algoarena.service.progress.SolvedSetService;
+import com.algoarena.service.search.QuestionSearchService;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +37,9 @@ import java.util.HashMap;
 @Transactional
 public class CategoryService {
 
+    // Key of getAllCategories in categoriesList
+    public static final String ALL_CATEGORIES_KEY = "allCategories";
+
     @Autowired
     private CategoryRepository categoryRepository;
 
@@ -45,31 +55,72 @@ public class CategoryService {
     @Autowired
     private UserProgressRepository userProgressRepository;
 
+    @Autowired
+    private RefreshAheadService refreshAheadService;
+
+    @Autowired
+    private CacheRefreshLoaders cacheRefreshLoaders;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private QuestionSearchService questionSearchService;
+
+    @Autowired
+    private UserQuestionOverlayService userQuestionOverlayService;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private UserProgressService userProgressService;
+
+    @Autowired
+    private SolvedSetService solvedSetService;
+
+    /**
+     * Keep every category's stats warm in the background so no request pays for
+     * the per-question solution counts
+     */
+    @PostConstruct
+    void registerRefreshAhead() {
+        // Stale category list is reloaded in the background (one key)
+        cacheRefreshLoaders.register(CacheInvalidationService.CATEGORIES_LIST, key -> loadAllCategories());
+
+        refreshAheadService.register("categoryStats",
+                () -> categoryRepository.findAllIds().stream().map(Category::getId).toList(),
+                key -> computeCategoryStats((String) key));
+    }
+
     // ==================== HYBRID CACHING METHODS ====================
 
     /**
      * HYBRID: Get all categories with user progress - CACHED with smart eviction
      * Cache key is user-specific to avoid conflicts between different users
      */
-    @Cacheable(value = "categoriesProgress", key = "#userId")
+    @Cacheable(value = "categoriesProgress", sync = true)
     public List<CategorySummaryDTO> getCategoriesWithProgress(String userId) {
         // System.out.println("CACHE MISS: Fetching fresh categories with progress for user: " + userId);
 
         // Step 1: Get all categories
         List<Category> categories = categoryRepository.findAllByOrderByNameAsc();
 
-        // Step 2: Get all questions for calculating stats
-        List<Question> allQuestions = questionRepository.findAll();
-
-        // Step 3: Get all user progress for this user
-        List<UserProgress> allUserProgress = userProgressRepository.findByUser_IdAndSolvedTrue(userId);
-
-        // Create a map for quick lookup of solved questions
-        Set<String> solvedQuestionIds = allUserProgress.stream()
-                .map(progress -> progress.getQuestion().getId())
-                .collect(Collectors.toSet());
-
-        // System.out.println("DEBUG: User " + userId + " has solved " + solvedQuestionIds.size() + " questions");
+        // Step 2: Question projections per category (only needed until the catalog
+        // snapshot is loaded - afterwards counts come from its pre-built lists)
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        Map<String, List<QuestionMeta>> questionsByCategory = snapshot != null
+                ? Map.of()
+                : questionRepository.findAllMeta().stream()
+                        .filter(q -> q.categoryId() != null)
+                        .collect(Collectors.groupingBy(QuestionMeta::categoryId));
+
+        // Step 3: User's solved questions - bitmap ANDed with the category/level masks
+        // once the snapshot is loaded, the cached overlay's id set before that
+        SolvedBitmap solvedBitmap = snapshot != null ? solvedSetService.getSolved(userId) : null;
+        Set<String> solvedQuestionIds = snapshot != null
+                ? Set.of()
+                : userQuestionOverlayService.getOverlay(userId).getSolved().keySet();
 
         // Step 4: Process each category
         return categories.stream()
@@ -83,48 +134,47 @@ public class CategoryService {
                             category.getCreatedAt(),
                             category.getUpdatedAt());
 
-                    // Calculate question statistics for this category
-                    List<Question> categoryQuestions = allQuestions.stream()
-                            .filter(q -> q.getCategory().getId().equals(category.getId()))
-                            .collect(Collectors.toList());
-
-                    // Count questions by level
-                    long easyCount = categoryQuestions.stream()
-                            .filter(q -> q.getLevel() == QuestionLevel.EASY).count();
-                    long mediumCount = categoryQuestions.stream()
-                            .filter(q -> q.getLevel() == QuestionLevel.MEDIUM).count();
-                    long hardCount = categoryQuestions.stream()
-                            .filter(q -> q.getLevel() == QuestionLevel.HARD).count();
+                    // Count questions and solved questions by level in this category
+                    int totalInCategory;
+                    int[] totalByLevel = new int[QuestionLevel.values().length];
+                    int[] solvedCounts = new int[QuestionLevel.values().length];
+                    if (snapshot != null) {
+                        totalInCategory = snapshot.count(category.getId(), null);
+                        for (QuestionLevel level : QuestionLevel.values()) {
+                            totalByLevel[level.ordinal()] = snapshot.count(category.getId(), level);
+                            solvedCounts[level.ordinal()] = solvedSetService.countSolved(solvedBitmap, category.getId(), level);
+                        }
+                    } else {
+                        List<QuestionMeta> categoryQuestions = questionsByCategory.getOrDefault(category.getId(), List.of());
+                        totalInCategory = categoryQuestions.size();
+                        for (QuestionMeta question : categoryQuestions) {
+                            if (question.level() != null) {
+                                totalByLevel[question.level().ordinal()]++;
+                                if (solvedQuestionIds.contains(question.id())) {
+                                    solvedCounts[question.level().ordinal()]++;
+                                }
+                            }
+                        }
+                    }
 
                     CategorySummaryDTO.QuestionStats.ByLevel questionsByLevel = new CategorySummaryDTO.QuestionStats.ByLevel(
-                            (int) easyCount, (int) mediumCount, (int) hardCount);
+                            totalByLevel[QuestionLevel.EASY.ordinal()],
+                            totalByLevel[QuestionLevel.MEDIUM.ordinal()],
+                            totalByLevel[QuestionLevel.HARD.ordinal()]);
 
                     CategorySummaryDTO.QuestionStats questionStats = new CategorySummaryDTO.QuestionStats(
-                            categoryQuestions.size(), questionsByLevel);
+                            totalInCategory, questionsByLevel);
 
-                    // Count solved questions by level in this category
-                    long solvedEasy = categoryQuestions.stream()
-                            .filter(q -> q.getLevel() == QuestionLevel.EASY)
-                            .filter(q -> solvedQuestionIds.contains(q.getId()))
-                            .count();
-
-                    long solvedMedium = categoryQuestions.stream()
-                            .filter(q -> q.getLevel() == QuestionLevel.MEDIUM)
-                            .filter(q -> solvedQuestionIds.contains(q.getId()))
-                            .count();
-
-                    long solvedHard = categoryQuestions.stream()
-                            .filter(q -> q.getLevel() == QuestionLevel.HARD)
-                            .filter(q -> solvedQuestionIds.contains(q.getId()))
-                            .count();
-
-                    int totalSolvedInCategory = (int) (solvedEasy + solvedMedium + solvedHard);
+                    int solvedEasy = solvedCounts[QuestionLevel.EASY.ordinal()];
+                    int solvedMedium = solvedCounts[QuestionLevel.MEDIUM.ordinal()];
+                    int solvedHard = solvedCounts[QuestionLevel.HARD.ordinal()];
+                    int totalSolvedInCategory = solvedEasy + solvedMedium + solvedHard;
 
                     CategorySummaryDTO.UserProgressStats.ByLevel solvedByLevel = new CategorySummaryDTO.UserProgressStats.ByLevel(
-                            (int) solvedEasy, (int) solvedMedium, (int) solvedHard);
+                            solvedEasy, solvedMedium, solvedHard);
 
-                    double progressPercentage = categoryQuestions.size() > 0
-                            ? (totalSolvedInCategory * 100.0) / categoryQuestions.size()
+                    double progressPercentage = totalInCategory > 0
+                            ? (totalSolvedInCategory * 100.0) / totalInCategory
                             : 0.0;
 
                     CategorySummaryDTO.UserProgressStats userProgressStats = new CategorySummaryDTO.UserProgressStats(
@@ -144,10 +194,13 @@ public class CategoryService {
     /**
      * HYBRID: Get all categories - CACHED (no user-specific data)
      */
-    @Cacheable(value = "categoriesList", key = "'all'")
+    @Cacheable(value = "categoriesList", key = "T(com.algoarena.service.dsa.CategoryService).ALL_CATEGORIES_KEY", sync = true)
     public List<CategoryDTO> getAllCategories() {
         // System.out.println("CACHE MISS: Fetching all categories from database");
-        
+        return loadAllCategories();
+    }
+
+    private List<CategoryDTO> loadAllCategories() {
         List<Category> categories = categoryRepository.findAllByOrderByNameAsc();
         return categories.stream()
                 .map(CategoryDTO::fromEntity)
@@ -157,15 +210,19 @@ public class CategoryService {
     // ==================== CRUD OPERATIONS WITH PROPER CACHE EVICTION ====================
 
     /**
-     * Create category with PROPER cache eviction using @CacheEvict
+     * Create category with PROPER cache eviction and catalog version bump
      */
-    @CacheEvict(value = {"categoriesProgress", "categoriesList", "questionsSummary", "adminStats"}, allEntries = true)
     public CategoryDTO createCategory(CategoryDTO categoryDTO, User createdBy) {
         Category category = new Category();
         category.setName(categoryDTO.getName().trim());
         category.setCreatedBy(createdBy);
 
         Category savedCategory = categoryRepository.save(category);
+        catalogSnapshotService.categorySaved(savedCategory);
+        cacheInvalidationService.catalogChanged(
+                CacheInvalidationService.CATEGORIES_PROGRESS,
+                CacheInvalidationService.CATEGORIES_LIST,
+                CacheInvalidationService.ADMIN_STATS);
         
         // System.out.println("Category created and ALL relevant caches evicted");
         
@@ -173,9 +230,8 @@ public class CategoryService {
     }
 
     /**
-     * Update category with PROPER cache eviction using @CacheEvict
+     * Update category with PROPER cache eviction and catalog version bump
      */
-    @CacheEvict(value = {"categoriesProgress", "categoriesList", "questionsSummary", "categoryStats", "adminStats"}, allEntries = true)
     public CategoryDTO updateCategory(String id, CategoryDTO categoryDTO) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Category not found"));
@@ -183,6 +239,8 @@ public class CategoryService {
         category.setName(categoryDTO.getName().trim());
 
         Category updatedCategory = categoryRepository.save(category);
+        catalogSnapshotService.categorySaved(updatedCategory);
+        catalogChanged();
         
         // System.out.println("Category updated and ALL relevant caches evicted");
 
@@ -190,9 +248,8 @@ public class CategoryService {
     }
 
     /**
-     * Delete category with PROPER cache eviction using @CacheEvict
+     * Delete category with PROPER cache eviction and catalog version bump
      */
-    @CacheEvict(value = {"categoriesProgress", "categoriesList", "questionsSummary", "questionsList", "categoryStats", "adminStats"}, allEntries = true)
     @Transactional
     public int deleteCategory(String id) {
         // First, get all questions in this category
@@ -209,21 +266,40 @@ public class CategoryService {
             for (String questionId : questionIds) {
                 solutionRepository.deleteByQuestion_Id(questionId);
                 approachRepository.deleteByQuestion_Id(questionId);
-                userProgressRepository.deleteByQuestion_Id(questionId);
             }
 
-            // Delete all questions in this category
+            // Delete all questions in this category, then their progress (no new
+            // solves once they are gone); only their solvers' stats change
             questionRepository.deleteAll(questions);
+            userProgressService.deleteProgressForQuestions(questions.stream().map(QuestionMeta::fromEntity).toList());
+            questionSearchService.removeAll(questionIds);
         }
 
         // Finally, delete the category
         categoryRepository.deleteById(id);
+        catalogSnapshotService.categoryRemoved(id);
+        catalogChanged();
 
         // System.out.println("Category and " + deletedQuestionsCount + " questions deleted, ALL caches evicted");
 
         return deletedQuestionsCount;
     }
 
+    /**
+     * Evict every cache embedding category names or question membership, then
+     * bump the catalog version
+     */
+    private void catalogChanged() {
+        cacheInvalidationService.catalogChanged(
+                CacheInvalidationService.CATEGORIES_PROGRESS,
+                CacheInvalidationService.CATEGORIES_LIST,
+                CacheInvalidationService.QUESTIONS_LIST,
+                CacheInvalidationService.QUESTION_META_LIST,
+                CacheInvalidationService.USER_PROGRESS_STATS,
+                CacheInvalidationService.CATEGORY_STATS,
+                CacheInvalidationService.ADMIN_STATS);
+    }
+
     // ==================== EXISTING METHODS ====================
 
     public CategoryDTO getCategoryById(String id) {
@@ -245,23 +321,31 @@ public class CategoryService {
     }
 
     /**
-     * Get category statistics - CACHED with shorter TTL
+     * Get category statistics - CACHED with shorter TTL, refreshed ahead of expiry
      */
-    @Cacheable(value = "categoryStats", key = "#categoryId")
+    @Cacheable(value = "categoryStats", sync = true)
     public Map<String, Object> getCategoryStats(String categoryId) {
         // System.out.println("CACHE MISS: Fetching category stats for ID: " + categoryId);
-        
+        return computeCategoryStats(categoryId);
+    }
+
+    /**
+     * Uncached category statistics (used by the cache and by refresh-ahead)
+     */
+    public Map<String, Object> computeCategoryStats(String categoryId) {
         Map<String, Object> stats = new HashMap<>();
 
-        // Get total questions in this category
-        long questionCount = questionRepository.countByCategory_Id(categoryId);
-        stats.put("totalQuestions", questionCount);
+        // Get questions in this category (snapshot, or projections until it is loaded)
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        List<QuestionMeta> questions = snapshot != null
+                ? snapshot.list(categoryId, null)
+                : questionRepository.findMetaByCategory(categoryId);
+        stats.put("totalQuestions", (long) questions.size());
 
         // Get questions by difficulty level
-        var questions = questionRepository.findByCategory_Id(categoryId);
-        long easyCount = questions.stream().mapToLong(q -> q.getLevel().name().equals("EASY") ? 1 : 0).sum();
-        long mediumCount = questions.stream().mapToLong(q -> q.getLevel().name().equals("MEDIUM") ? 1 : 0).sum();
-        long hardCount = questions.stream().mapToLong(q -> q.getLevel().name().equals("HARD") ? 1 : 0).sum();
+        long easyCount = questions.stream().filter(q -> q.level() == QuestionLevel.EASY).count();
+        long mediumCount = questions.stream().filter(q -> q.level() == QuestionLevel.MEDIUM).count();
+        long hardCount = questions.stream().filter(q -> q.level() == QuestionLevel.HARD).count();
 
         Map<String, Long> levelStats = new HashMap<>();
         levelStats.put("easy", easyCount);
@@ -271,7 +355,7 @@ public class CategoryService {
 
         // Get total solutions count
         List<String> questionIds = questions.stream()
-                .map(q -> q.getId())
+                .map(QuestionMeta::id)
                 .toList();
         long totalSolutions = 0;
         for (String questionId : questionIds) {
@@ -0,0 +1,151 @@
+// src/main/java/com/algoarena/service/dsa/QuestionCatalogService.java
+package com.algoarena.service.dsa;
+
+import com.algoarena.model.Question;
+import com.algoarena.model.QuestionLevel;
+import com.algoarena.model.QuestionMeta;
+import com.algoarena.repository.QuestionRepository;
+import com.algoarena.service.cache.CacheInvalidationService;
+import com.algoarena.service.cache.CacheRefreshLoaders;
+import com.algoarena.service.cache.QuestionPageKey;
+import com.algoarena.service.search.QuestionSearchService;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Shared (user independent) question catalog pages.
+ *
+ * Lives in its own bean so calls from QuestionService go through the cache
+ * proxy - a self-invoked @Cacheable method in QuestionService was never cached.
+ * Every user's summary page is built from these shared pages plus a small
+ * per-user overlay (see UserQuestionOverlayService). Each cached method is a
+ * thin wrapper over a load method taking only its cache key, which is also
+ * registered as the cache's refresh loader.
+ */
+@Service
+public class QuestionCatalogService {
+
+    // Key of getAllMeta in questionMetaList (next to the page keys)
+    public static final String ALL_META_KEY = "allMeta";
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private QuestionSearchService questionSearchService;
+
+    @Autowired
+    private CacheRefreshLoaders cacheRefreshLoaders;
+
+    /**
+     * Stale pages are reloaded in the background from their keys
+     */
+    @PostConstruct
+    void registerRefreshLoaders() {
+        cacheRefreshLoaders.register(CacheInvalidationService.QUESTIONS_LIST, key -> loadPage((QuestionPageKey) key));
+        cacheRefreshLoaders.register(CacheInvalidationService.QUESTION_META_LIST,
+                key -> ALL_META_KEY.equals(key) ? questionRepository.findAllMeta() : loadMetaPage((QuestionPageKey) key));
+    }
+
+    /**
+     * HYBRID: Get filtered questions page - CACHED once for all users
+     * Any combination of category, level and search is filtered and paged in
+     * MongoDB (newest first), so only the requested page is ever loaded.
+     * Searches use the in-memory index once built (ranked by relevance) and only
+     * load the questions of the requested page.
+     */
+    @Cacheable(value = "questionsList", keyGenerator = "questionPageKeyGenerator", sync = true)
+    public Page<Question> getAllQuestionsFiltered(Pageable pageable, String categoryId, String level, String search) {
+        // System.out.println("CACHE MISS: Fetching filtered questions from database");
+        return loadPage(QuestionPageKey.of(pageable, categoryId, level, search));
+    }
+
+    /**
+     * HYBRID: Projection-only page for the summary list - CACHED once for all users
+     * Same filtering and ordering as getAllQuestionsFiltered without loading
+     * statements, snippets or DBRefs.
+     */
+    @Cacheable(value = "questionMetaList", keyGenerator = "questionPageKeyGenerator", sync = true)
+    public Page<QuestionMeta> getMetaPageFiltered(Pageable pageable, String categoryId, String level, String search) {
+        return loadMetaPage(QuestionPageKey.of(pageable, categoryId, level, search));
+    }
+
+    /**
+     * HYBRID: Every question as a projection (facet counts) - CACHED once for all users
+     */
+    @Cacheable(value = "questionMetaList", key = "T(com.algoarena.service.dsa.QuestionCatalogService).ALL_META_KEY", sync = true)
+    public List<QuestionMeta> getAllMeta() {
+        return questionRepository.findAllMeta();
+    }
+
+    // ==================== LOADERS ====================
+
+    /**
+     * Uncached page for a key - filters come from the key, so they are the
+     * normalized ones it is cached under
+     */
+    private Page<Question> loadPage(QuestionPageKey key) {
+        Pageable pageable = PageRequest.of(key.getPage(), key.getSize());
+        QuestionLevel questionLevel = key.getLevel() != null ? QuestionLevel.fromString(key.getLevel()) : null;
+
+        if (key.getSearch() != null && questionSearchService.isReady()) {
+            List<String> ids = questionSearchService.search(key.getSearch(), key.getCategoryId(), questionLevel);
+            int start = (int) Math.min(pageable.getOffset(), ids.size());
+            int end = Math.min(start + pageable.getPageSize(), ids.size());
+            return new PageImpl<>(findAllInOrder(ids.subList(start, end)), pageable, ids.size());
+        }
+
+        return questionRepository.findFiltered(key.getCategoryId(), questionLevel, key.getSearch(), pageable);
+    }
+
+    private Page<QuestionMeta> loadMetaPage(QuestionPageKey key) {
+        Pageable pageable = PageRequest.of(key.getPage(), key.getSize());
+        QuestionLevel questionLevel = key.getLevel() != null ? QuestionLevel.fromString(key.getLevel()) : null;
+
+        if (key.getSearch() != null && questionSearchService.isReady()) {
+            List<String> ids = questionSearchService.search(key.getSearch(), key.getCategoryId(), questionLevel);
+            int start = (int) Math.min(pageable.getOffset(), ids.size());
+            int end = Math.min(start + pageable.getPageSize(), ids.size());
+            List<String> pageIds = ids.subList(start, end);
+
+            Map<String, QuestionMeta> byId = new HashMap<>();
+            questionRepository.findMetaByIds(pageIds).forEach(meta -> byId.put(meta.id(), meta));
+            List<QuestionMeta> ordered = pageIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+            return new PageImpl<>(ordered, pageable, ids.size());
+        }
+
+        return questionRepository.findMetaFiltered(key.getCategoryId(), questionLevel, key.getSearch(), pageable);
+    }
+
+    /**
+     * Load questions by id, keeping the order of the given ids (missing ids are skipped)
+     */
+    public List<Question> findAllInOrder(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Question> byId = new HashMap<>();
+        questionRepository.findAllById(ids).forEach(question -> byId.put(question.getId(), question));
+
+        List<Question> ordered = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Question question = byId.get(id);
+            if (question != null) {
+                ordered.add(question);
+            }
+        }
+        return ordered;
+    }
+}
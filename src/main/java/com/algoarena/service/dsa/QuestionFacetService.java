@@ -0,0 +1,165 @@
+// src/main/java/com/algoarena/service/dsa/QuestionFacetService.java
+package com.algoarena.service.dsa;
+
+import com.algoarena.model.QuestionLevel;
+import com.algoarena.model.QuestionMeta;
+import com.algoarena.service.catalog.CatalogSnapshot;
+import com.algoarena.service.catalog.CatalogSnapshotService;
+import com.algoarena.service.search.QuestionSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Filter-chip counts for the question browser, computed in one pass over the
+ * catalog snapshot (cached projections until it is loaded) and the user's
+ * cached overlay - no extra queries.
+ *
+ * Counts follow the usual multi-select facet rule: each dimension is counted
+ * with every filter except its own (the category chips ignore the selected
+ * category, the level chips ignore the selected level), so switching a chip
+ * never shows zero for the alternatives.
+ */
+@Service
+public class QuestionFacetService {
+
+    @Autowired
+    private QuestionCatalogService questionCatalogService;
+
+    @Autowired
+    private QuestionSearchService questionSearchService;
+
+    @Autowired
+    private UserQuestionOverlayService userQuestionOverlayService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    public Map<String, Object> getSummaryFacets(String categoryId, String level, String search, String userId) {
+        String categoryFilter = categoryId != null && !categoryId.isEmpty() ? categoryId : null;
+        QuestionLevel levelFilter = level != null && !level.isEmpty() ? QuestionLevel.fromString(level) : null;
+
+        Set<String> solvedIds = userQuestionOverlayService.getOverlay(userId).getSolved().keySet();
+        Set<String> searchMatches = searchMatches(search);
+
+        // Single pass: category x level x solved cells for everything matching the search
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        Map<String, Map<QuestionLevel, int[]>> cells = new HashMap<>();
+        for (QuestionMeta question : snapshot != null ? snapshot.questions() : questionCatalogService.getAllMeta()) {
+            if (question.categoryId() == null || question.level() == null) {
+                continue;
+            }
+            if (searchMatches != null ? !searchMatches.contains(question.id()) : !matchesTitle(question, search)) {
+                continue;
+            }
+            int[] cell = cells.computeIfAbsent(question.categoryId(), c -> new HashMap<>())
+                    .computeIfAbsent(question.level(), l -> new int[2]);
+            cell[0]++;
+            if (solvedIds.contains(question.id())) {
+                cell[1]++;
+            }
+        }
+
+        Map<String, String> categoryNames = new HashMap<>();
+        if (snapshot != null) {
+            categoryNames.putAll(snapshot.categoryNames());
+        } else {
+            categoryService.getAllCategories().forEach(c -> categoryNames.put(c.getId(), c.getName()));
+        }
+
+        // Derive each facet from the cells
+        Map<String, int[]> byCategory = new LinkedHashMap<>();
+        Map<QuestionLevel, int[]> byLevel = new LinkedHashMap<>();
+        for (QuestionLevel questionLevel : QuestionLevel.values()) {
+            byLevel.put(questionLevel, new int[2]);
+        }
+        int[] selected = new int[2];
+        List<Map<String, Object>> matrix = new ArrayList<>();
+
+        cells.forEach((category, levels) -> levels.forEach((questionLevel, cell) -> {
+            boolean categoryMatches = categoryFilter == null || categoryFilter.equals(category);
+            boolean levelMatches = levelFilter == null || levelFilter == questionLevel;
+            if (levelMatches) {
+                add(byCategory.computeIfAbsent(category, c -> new int[2]), cell);
+            }
+            if (categoryMatches) {
+                add(byLevel.get(questionLevel), cell);
+            }
+            if (categoryMatches && levelMatches) {
+                add(selected, cell);
+            }
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("categoryId", category);
+            entry.put("level", questionLevel);
+            entry.put("total", cell[0]);
+            entry.put("solved", cell[1]);
+            matrix.add(entry);
+        }));
+
+        List<Map<String, Object>> categoryFacets = new ArrayList<>();
+        byCategory.forEach((category, counts) -> {
+            Map<String, Object> entry = counts(counts);
+            entry.put("categoryId", category);
+            entry.put("categoryName", categoryNames.get(category));
+            categoryFacets.add(entry);
+        });
+        categoryFacets.sort((a, b) -> String.valueOf(a.get("categoryName")).compareToIgnoreCase(String.valueOf(b.get("categoryName"))));
+
+        Map<String, Object> levelFacets = new LinkedHashMap<>();
+        byLevel.forEach((questionLevel, counts) -> levelFacets.put(questionLevel.getValue(), counts(counts)));
+
+        Map<String, Object> facets = new LinkedHashMap<>();
+        facets.put("total", selected[0]);
+        facets.put("solved", selected[1]);
+        facets.put("unsolved", selected[0] - selected[1]);
+        facets.put("byLevel", levelFacets);
+        facets.put("byCategory", categoryFacets);
+        facets.put("matrix", matrix);
+        return facets;
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Ids matching the search from the index, or null when there is no search or
+     * the index is not built yet (titles are then matched directly)
+     */
+    private Set<String> searchMatches(String search) {
+        if (search == null || search.trim().isEmpty() || !questionSearchService.isReady()) {
+            return null;
+        }
+        return new HashSet<>(questionSearchService.search(search, null, null));
+    }
+
+    private static boolean matchesTitle(QuestionMeta question, String search) {
+        if (search == null || search.trim().isEmpty()) {
+            return true;
+        }
+        return question.title() != null
+                && question.title().toLowerCase(Locale.ROOT).contains(search.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static void add(int[] target, int[] cell) {
+        target[0] += cell[0];
+        target[1] += cell[1];
+    }
+
+    private static Map<String, Object> counts(int[] counts) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("total", counts[0]);
+        entry.put("solved", counts[1]);
+        return entry;
+    }
+}
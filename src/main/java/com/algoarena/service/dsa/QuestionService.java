@@ -2,39 +2,67 @@
 
 package com.algoarena.service.dsa;
 
+import com.algoarena.dto.dsa.CursorPageDTO;
 import com.algoarena.dto.dsa.QuestionDTO;
 import com.algoarena.dto.dsa.QuestionDetailDTO;
+import com.algoarena.dto.dsa.QuestionSuggestionDTO;
 import com.algoarena.dto.dsa.QuestionSummaryDTO;
 import com.algoarena.dto.dsa.SolutionDTO;
+import com.algoarena.dto.dsa.UserProgressDTO;
 import com.algoarena.model.Question;
 import com.algoarena.model.QuestionLevel;
+import com.algoarena.model.QuestionMeta;
 import com.algoarena.model.User;
-import com.algoarena.model.UserProgress;
 import com.algoarena.model.Category;
+import com.algoarena.repository.QuestionCursor;
 import com.algoarena.repository.QuestionRepository;
 import com.algoarena.repository.CategoryRepository;
 import com.algoarena.repository.SolutionRepository;
 import com.algoarena.repository.ApproachRepository;
 import com.algoarena.repository.UserProgressRepository;
+import com.algoarena.service.cache.CacheInvalidationService;
+import com.algoarena.service.cache.QuestionPageKey;
+import com.algoarena.service.cache.RefreshAheadService;
+import com.algoarena.service.catalog.CatalogSnapshot;
+import com.algoarena.service.catalog.CatalogSnapshotService;
+import com.algoarena.service.progress.UserStatsService;
+import com.algoarena.service.search.QuestionSearchService;
+import com.algoarena.service.search.TitleAutocomplete;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.HashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class QuestionService {
 
+    // Key of getQuestionCounts in adminStats, shared with its refresh-ahead registration
+    public static final String QUESTION_COUNTS_KEY = "questionCounts";
+
+    // Fuzzy search returns the closest matches only
+    private static final int FUZZY_SEARCH_LIMIT = 50;
+
     @Autowired
     private QuestionRepository questionRepository;
 
@@ -57,144 +85,213 @@ public class QuestionService {
     private UserProgressService userProgressService;
 
     @Autowired
-    private BulkApproachService bulkApproachService;
+    private QuestionCatalogService questionCatalogService;
+
+    @Autowired
+    private UserQuestionOverlayService userQuestionOverlayService;
+
+    @Autowired
+    private RefreshAheadService refreshAheadService;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private QuestionSearchService questionSearchService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private UserStatsService userStatsService;
+
+    // "overlay" (cached catalog page + per-user overlay) or "aggregation" (one pipeline per page)
+    @Value("${app.questions.summary-strategy:overlay}")
+    private String summaryStrategy;
+
+    // Shared deadline for the parallel lookups behind one question detail page
+    @Value("${app.questions.detail-timeout:5s}")
+    private Duration detailTimeout;
+
+    // Virtual thread per lookup, shared across requests (closed on shutdown)
+    private final ExecutorService detailExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Keep the admin question counts (4 + one count per category) warm in the background
+     */
+    @PostConstruct
+    void registerRefreshAhead() {
+        refreshAheadService.register(CacheInvalidationService.ADMIN_STATS, () -> List.of(QUESTION_COUNTS_KEY), key -> computeQuestionCounts());
+    }
 
     // ==================== HYBRID CACHING METHODS ====================
 
     /**
-     * HYBRID: Get questions summary with user progress - CACHED with smart eviction
-     * Cache key includes all filter parameters for proper cache segmentation
+     * HYBRID: Get questions summary with user progress
+     * Built from two layers merged at read time:
+     * - shared projection page (in-memory catalog snapshot; the cached
+     *   questionMetaList page until the snapshot is loaded)
+     * - per-user overlay of solved flags and approach counts (userQuestionOverlay)
+     * With app.questions.summary-strategy=aggregation the page is instead built
+     * uncached by a single aggregation pipeline (see QuestionRepositoryImpl);
+     * searches take their ranked ids from the search index once it is ready.
      */
-    @Cacheable(value = "questionsSummary", key = "#userId + '_page_' + #pageable.pageNumber + '_size_' + #pageable.pageSize + '_cat_' + (#categoryId ?: 'all') + '_lvl_' + (#level ?: 'all') + '_search_' + (#search ?: 'none')")
     public Page<QuestionSummaryDTO> getQuestionsWithProgress(
             Pageable pageable,
             String categoryId,
             String level,
             String search,
             String userId) {
+        categoryId = QuestionPageKey.normalize(categoryId);
+        level = QuestionPageKey.normalize(level);
+        search = QuestionPageKey.normalize(search);
+
+        if ("aggregation".equalsIgnoreCase(summaryStrategy)) {
+            QuestionLevel questionLevel = level != null && !level.isEmpty() ? QuestionLevel.fromString(level) : null;
+            if (search != null && questionSearchService.isReady()) {
+                // Ranked hits from the search index, joined for this page only
+                List<String> hits = questionSearchService.search(search, categoryId, questionLevel);
+                int from = (int) Math.min(pageable.getOffset(), hits.size());
+                int to = Math.min(from + pageable.getPageSize(), hits.size());
+                List<QuestionSummaryDTO> content = questionRepository.findSummariesByIds(userId, hits.subList(from, to));
+                return new PageImpl<>(content, pageable, hits.size());
+            }
+            return questionRepository.findSummaryPage(userId, categoryId, questionLevel, search, pageable);
+        }
 
-        // System.out.println("CACHE MISS: Fetching fresh questions data for user: " + userId);
+        // Step 1: Shared projection page (independent of user)
+        Page<QuestionMeta> questionsPage = getMetaPage(pageable, categoryId, level, search);
 
-        // Step 1: Get questions with filtering
-        Page<Question> questionsPage = getAllQuestionsFiltered(pageable, categoryId, level, search);
+        if (questionsPage.getContent().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, questionsPage.getTotalElements());
+        }
 
-        // Step 2: Get all question IDs from the page
-        List<String> questionIds = questionsPage.getContent()
-                .stream()
-                .map(Question::getId)
-                .collect(Collectors.toList());
+        // Step 2 + 3: User's overlay merged into the shared page
+        List<QuestionSummaryDTO> summaryList = toSummaries(questionsPage.getContent(), userId);
 
-        if (questionIds.isEmpty()) {
-            return new PageImpl<>(List.of(), pageable, 0);
-        }
+        // Return paginated result
+        return new PageImpl<>(summaryList, pageable, questionsPage.getTotalElements());
+    }
 
-        // Step 3: Get user progress for these questions (optimized)
-        Map<String, UserProgress> progressMap = new HashMap<>();
-        for (String questionId : questionIds) {
-            Optional<UserProgress> progress = userProgressRepository.findByUser_IdAndQuestion_Id(userId, questionId);
-            if (progress.isPresent()) {
-                progressMap.put(questionId, progress.get());
-            }
-        }
+    /**
+     * Keyset variant of getQuestionsWithProgress: the page after {@code cursor}
+     * (null = first page), read with a range predicate so deep pages cost the same
+     * as the first. Not cached - cursor positions are too scattered to share.
+     */
+    public CursorPageDTO<QuestionSummaryDTO> getQuestionsWithProgressAfter(
+            QuestionCursor cursor,
+            int size,
+            String categoryId,
+            String level,
+            String search,
+            String userId) {
+        categoryId = QuestionPageKey.normalize(categoryId);
+        level = QuestionPageKey.normalize(level);
+        search = QuestionPageKey.normalize(search);
+        QuestionLevel questionLevel = level != null && !level.isEmpty() ? QuestionLevel.fromString(level) : null;
+
+        // One extra row tells whether another page exists
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        List<QuestionMeta> rows = snapshot != null && (search == null || search.trim().isEmpty())
+                ? snapshot.after(categoryId, questionLevel, cursor, size + 1)
+                : questionRepository.findMetaAfter(categoryId, questionLevel, search, cursor, size + 1);
+        List<QuestionMeta> page = rows.size() > size ? rows.subList(0, size) : rows;
+
+        String nextCursor = rows.size() > size
+                ? QuestionCursor.of(page.get(size - 1).createdAt(), page.get(size - 1).id()).encode()
+                : null;
+        return new CursorPageDTO<>(page.isEmpty() ? List.of() : toSummaries(page, userId), nextCursor);
+    }
 
-        // System.out.println(
-        //         "DEBUG: Found " + progressMap.size() + " progress records out of " + questionIds.size() + " questions");
-
-        // Step 4: TRULY BULK - Get approach counts using single aggregation query
-        // System.out.println("DEBUG: Using bulk approach count service for " + questionIds.size() + " questions for user: " + userId);
-        
-        Map<String, Integer> approachCountMap = bulkApproachService.getBulkApproachCounts(userId, questionIds);
-        
-        // Log detailed results
-        // int totalApproaches = approachCountMap.values().stream().mapToInt(Integer::intValue).sum();
-        // int questionsWithApproaches = (int) approachCountMap.values().stream().filter(count -> count > 0).count();
-        
-        // System.out.println("BULK RESULT: Found total of " + totalApproaches + " approaches across " + 
-        //                  questionsWithApproaches + " questions (out of " + questionIds.size() + " total questions)");
-
-        // Step 5: Convert to QuestionSummaryDTO with embedded user progress and approach counts
-        List<QuestionSummaryDTO> summaryList = questionsPage.getContent()
-                .stream()
-                .map(question -> {
-                    QuestionSummaryDTO summary = new QuestionSummaryDTO(
-                            question.getId(),
-                            question.getTitle(),
-                            question.getCategory().getId(),
-                            question.getCategory().getName(),
-                            question.getLevel(),
-                            question.getCreatedAt());
-
-                    // Add user progress
-                    UserProgress progress = progressMap.get(question.getId());
-                    int approachCount = approachCountMap.getOrDefault(question.getId(), 0);
-
-                    if (progress != null && progress.isSolved()) {
-                        summary.setUserProgress(new QuestionSummaryDTO.UserProgressSummary(
-                                true,
-                                progress.getSolvedAt(),
-                                approachCount));
-                    } else {
-                        summary.setUserProgress(new QuestionSummaryDTO.UserProgressSummary(
-                                false,
-                                null,
-                                approachCount));
-                    }
+    /**
+     * Keyset variant of getAllQuestions (see getQuestionsWithProgressAfter)
+     */
+    public CursorPageDTO<QuestionDTO> getAllQuestionsAfter(
+            QuestionCursor cursor,
+            int size,
+            String categoryId,
+            String level,
+            String search) {
+        categoryId = QuestionPageKey.normalize(categoryId);
+        level = QuestionPageKey.normalize(level);
+        search = QuestionPageKey.normalize(search);
+        QuestionLevel questionLevel = level != null && !level.isEmpty() ? QuestionLevel.fromString(level) : null;
+
+        List<Question> rows = questionRepository.findAfter(categoryId, questionLevel, search, cursor, size + 1);
+        List<Question> page = rows.size() > size ? rows.subList(0, size) : rows;
+
+        String nextCursor = rows.size() > size
+                ? QuestionCursor.of(page.get(size - 1).getCreatedAt(), page.get(size - 1).getId()).encode()
+                : null;
+        return new CursorPageDTO<>(page.stream().map(QuestionDTO::fromEntity).toList(), nextCursor);
+    }
 
-                    return summary;
-                })
-                .collect(Collectors.toList());
+    /**
+     * Filtered projection page: sliced from the catalog snapshot (search hits
+     * ranked by the index), or the cached MongoDB page while either is loading
+     */
+    private Page<QuestionMeta> getMetaPage(Pageable pageable, String categoryId, String level, String search) {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        boolean searching = search != null && !search.trim().isEmpty();
+        if (snapshot == null || (searching && !questionSearchService.isReady())) {
+            return questionCatalogService.getMetaPageFiltered(pageable, categoryId, level, search);
+        }
 
-        // Return paginated result
-        return new PageImpl<>(summaryList, pageable, questionsPage.getTotalElements());
+        QuestionLevel questionLevel = level != null && !level.isEmpty() ? QuestionLevel.fromString(level) : null;
+        if (searching) {
+            String category = categoryId != null && !categoryId.isEmpty() ? categoryId : null;
+            return snapshot.page(questionSearchService.search(search, category, questionLevel), pageable);
+        }
+        return snapshot.page(categoryId, questionLevel, pageable);
     }
 
     /**
-     * Helper method to get filtered questions (can be cached separately)
+     * Category id -> name from the snapshot (the cached category list until it is loaded)
      */
-    @Cacheable(value = "questionsList", key = "'page_' + #pageable.pageNumber + '_size_' + #pageable.pageSize + '_cat_' + (#categoryId ?: 'all') + '_lvl_' + (#level ?: 'all') + '_search_' + (#search ?: 'none')")
-    public Page<Question> getAllQuestionsFiltered(Pageable pageable, String categoryId, String level, String search) {
-        // System.out.println("CACHE MISS: Fetching filtered questions from database");
-
-        Page<Question> questions;
-
-        if (search != null && !search.trim().isEmpty()) {
-            List<Question> searchResults = questionRepository.searchByTitleOrStatement(search.trim());
-            int start = (int) pageable.getOffset();
-            int end = Math.min((start + pageable.getPageSize()), searchResults.size());
-            List<Question> pageContent = searchResults.subList(start, end);
-            questions = new PageImpl<>(pageContent, pageable, searchResults.size());
-        } else if (categoryId != null && !categoryId.isEmpty()) {
-            if (level != null && !level.isEmpty()) {
-                QuestionLevel questionLevel = QuestionLevel.fromString(level);
-                List<Question> filteredQuestions = questionRepository.findByCategory_IdAndLevel(categoryId,
-                        questionLevel);
-                int start = (int) pageable.getOffset();
-                int end = Math.min((start + pageable.getPageSize()), filteredQuestions.size());
-                List<Question> pageContent = filteredQuestions.subList(start, end);
-                questions = new PageImpl<>(pageContent, pageable, filteredQuestions.size());
-            } else {
-                questions = questionRepository.findByCategory_Id(categoryId, pageable);
-            }
-        } else if (level != null && !level.isEmpty()) {
-            QuestionLevel questionLevel = QuestionLevel.fromString(level);
-            List<Question> filteredQuestions = questionRepository.findByLevel(questionLevel);
-            int start = (int) pageable.getOffset();
-            int end = Math.min((start + pageable.getPageSize()), filteredQuestions.size());
-            List<Question> pageContent = filteredQuestions.subList(start, end);
-            questions = new PageImpl<>(pageContent, pageable, filteredQuestions.size());
-        } else {
-            questions = questionRepository.findAllByOrderByCreatedAtDesc(pageable);
+    private Map<String, String> categoryNames() {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        if (snapshot != null) {
+            return snapshot.categoryNames();
         }
+        Map<String, String> categoryNames = new HashMap<>();
+        categoryService.getAllCategories().forEach(c -> categoryNames.put(c.getId(), c.getName()));
+        return categoryNames;
+    }
 
-        return questions;
+    /**
+     * Merge projections with the user's overlay - fresh DTOs per request so the
+     * cached layers are never mutated
+     */
+    private List<QuestionSummaryDTO> toSummaries(List<QuestionMeta> questions, String userId) {
+        // User's overlay (cached per user, evicted on that user's writes)
+        UserQuestionOverlayService.Overlay overlay = userQuestionOverlayService.getOverlay(userId);
+
+        // Projections carry only the category id
+        Map<String, String> categoryNames = categoryNames();
+
+        return questions.stream()
+                .map(question -> {
+                    QuestionSummaryDTO summary = new QuestionSummaryDTO(
+                            question.id(),
+                            question.title(),
+                            question.categoryId(),
+                            categoryNames.get(question.categoryId()),
+                            question.level(),
+                            question.createdAt());
+                    summary.setUserProgress(overlay.toProgressSummary(question.id()));
+                    return summary;
+                })
+                .collect(Collectors.toList());
     }
 
     // ==================== CRUD OPERATIONS WITH PROPER CACHE EVICTION ====================
 
     /**
-     * Create question with PROPER cache eviction using @CacheEvict
+     * Create question with PROPER cache eviction and catalog version bump
      */
-    @CacheEvict(value = { "questionsSummary", "questionsList", "categoriesProgress", "adminStats" }, allEntries = true)
     public QuestionDTO createQuestion(QuestionDTO questionDTO, User createdBy) {
         // Find category
         Category category = categoryRepository.findById(questionDTO.getCategoryId())
@@ -216,6 +313,9 @@ public class QuestionService {
         }
 
         Question savedQuestion = questionRepository.save(question);
+        questionSearchService.index(savedQuestion);
+        catalogSnapshotService.questionSaved(savedQuestion);
+        catalogChanged();
 
         // System.out.println("Question created and ALL relevant caches evicted");
 
@@ -223,13 +323,15 @@ public class QuestionService {
     }
 
     /**
-     * Update question with PROPER cache eviction using @CacheEvict
+     * Update question with PROPER cache eviction and catalog version bump
      */
-    @CacheEvict(value = { "questionsSummary", "questionsList", "categoriesProgress", "adminStats" }, allEntries = true)
     public QuestionDTO updateQuestion(String id, QuestionDTO questionDTO) {
         Question question = questionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Question not found"));
 
+        String oldCategoryId = question.getCategory() != null ? question.getCategory().getId() : null;
+        QuestionLevel oldLevel = question.getLevel();
+
         // Find category if changed
         if (!question.getCategory().getId().equals(questionDTO.getCategoryId())) {
             Category newCategory = categoryRepository.findById(questionDTO.getCategoryId())
@@ -249,7 +351,22 @@ public class QuestionService {
             question.setCodeSnippets(codeSnippets);
         }
 
-        Question updatedQuestion = questionRepository.save(question);
+        String newCategoryId = question.getCategory() != null ? question.getCategory().getId() : null;
+        Question updatedQuestion;
+        if (!Objects.equals(oldCategoryId, newCategoryId) || oldLevel != question.getLevel()) {
+            // Moved: save it and move its solvers' stats buckets as one step for stats builds
+            updatedQuestion = userStatsService.withAllUserLocks(() -> {
+                Question saved = questionRepository.save(question);
+                catalogSnapshotService.questionSaved(saved);
+                userProgressService.questionMoved(saved.getId(), oldCategoryId, oldLevel, newCategoryId, saved.getLevel());
+                return saved;
+            });
+        } else {
+            updatedQuestion = questionRepository.save(question);
+            catalogSnapshotService.questionSaved(updatedQuestion);
+        }
+        questionSearchService.index(updatedQuestion);
+        catalogChanged();
 
         // System.out.println("Question updated and ALL relevant caches evicted");
 
@@ -257,43 +374,117 @@ public class QuestionService {
     }
 
     /**
-     * Delete question with PROPER cache eviction using @CacheEvict
+     * Delete question with PROPER cache eviction and catalog version bump
      */
-    @CacheEvict(value = { "questionsSummary", "questionsList", "categoriesProgress", "adminStats" }, allEntries = true)
     @Transactional
     public void deleteQuestion(String id) {
+        // As counted in its solvers' stats
+        List<QuestionMeta> deleted = questionRepository.findMetaByIds(List.of(id));
+
         // Delete all related data
         solutionRepository.deleteByQuestion_Id(id);
         approachRepository.deleteByQuestion_Id(id);
-        userProgressRepository.deleteByQuestion_Id(id);
 
-        // Delete the question
+        // Delete the question, then its progress (no new solves once it is gone)
         questionRepository.deleteById(id);
+        userProgressService.deleteProgressForQuestions(deleted);
+        questionSearchService.remove(id);
+        catalogSnapshotService.questionsRemoved(List.of(id));
+        catalogChanged();
 
         // System.out.println("Question deleted and ALL relevant caches evicted");
     }
 
+    /**
+     * Evict every cache holding question data, then bump the catalog version
+     */
+    private void catalogChanged() {
+        cacheInvalidationService.catalogChanged(
+                CacheInvalidationService.QUESTIONS_LIST,
+                CacheInvalidationService.QUESTION_META_LIST,
+                CacheInvalidationService.CATEGORIES_PROGRESS,
+                CacheInvalidationService.USER_PROGRESS_STATS,
+                CacheInvalidationService.CATEGORY_STATS,
+                CacheInvalidationService.ADMIN_STATS);
+    }
+
     // ==================== EXISTING METHODS ====================
 
+    /**
+     * Cached, unfiltered catalog page (same instance while cached - lets callers
+     * reuse anything they derived from it)
+     */
+    public Page<Question> getCatalogPage(Pageable pageable) {
+        return questionCatalogService.getAllQuestionsFiltered(pageable, null, null, null);
+    }
+
     public Page<QuestionDTO> getAllQuestions(Pageable pageable, String categoryId, String level, String search) {
-        Page<Question> questions = getAllQuestionsFiltered(pageable, categoryId, level, search);
+        categoryId = QuestionPageKey.normalize(categoryId);
+        level = QuestionPageKey.normalize(level);
+        search = QuestionPageKey.normalize(search);
+        Page<Question> questions = questionCatalogService.getAllQuestionsFiltered(pageable, categoryId, level, search);
         return questions.map(QuestionDTO::fromEntity);
     }
 
+    /**
+     * NEW: Question, solutions and the user's progress are independent lookups -
+     * fanned out on virtual threads under one deadline, so the page costs about
+     * the slowest query instead of the sum. A missing question, a failure or the
+     * deadline returns at once and cancels whatever is still running, without
+     * waiting for it to stop.
+     */
     public QuestionDetailDTO getQuestionDetails(String questionId, String userId) {
-        Question question = questionRepository.findById(questionId).orElse(null);
-        if (question == null) {
-            return null;
-        }
+        long deadline = System.nanoTime() + detailTimeout.toNanos();
 
-        QuestionDTO questionDTO = QuestionDTO.fromEntity(question);
-        List<SolutionDTO> solutions = solutionService.getSolutionsByQuestion(questionId);
+        Future<Question> questionTask = detailExecutor.submit(() -> questionRepository.findById(questionId).orElse(null));
+        Future<List<SolutionDTO>> solutionsTask = detailExecutor.submit(() -> solutionService.getSolutionsByQuestion(questionId));
+        Future<UserProgressDTO> progressTask = detailExecutor.submit(() -> userProgressService.getProgressByQuestionAndUser(questionId, userId));
 
-        var userProgress = userProgressService.getProgressByQuestionAndUser(questionId, userId);
-        boolean solved = userProgress != null ? userProgress.isSolved() : false;
-        var solvedAt = userProgress != null ? userProgress.getSolvedAt() : null;
+        try {
+            Question question = await(questionTask, deadline);
+            if (question == null) {
+                return null;
+            }
 
-        return new QuestionDetailDTO(questionDTO, solutions, solved, solvedAt);
+            QuestionDTO questionDTO = QuestionDTO.fromEntity(question);
+            List<SolutionDTO> solutions = await(solutionsTask, deadline);
+
+            UserProgressDTO userProgress = await(progressTask, deadline);
+            boolean solved = userProgress != null ? userProgress.isSolved() : false;
+            var solvedAt = userProgress != null ? userProgress.getSolvedAt() : null;
+
+            return new QuestionDetailDTO(questionDTO, solutions, solved, solvedAt);
+        } finally {
+            // Interrupt anything still running (no-op for finished tasks)
+            questionTask.cancel(true);
+            solutionsTask.cancel(true);
+            progressTask.cancel(true);
+        }
+    }
+
+    @PreDestroy
+    void shutdownDetailExecutor() {
+        detailExecutor.shutdownNow();
+    }
+
+    /**
+     * Result of a fan-out task within the shared deadline; failures are rethrown
+     * as they would have been by the direct call
+     */
+    private static <T> T await(Future<T> task, long deadline) {
+        try {
+            return task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Question details timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Question details interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        }
     }
 
     public Page<QuestionDTO> getQuestionsByCategory(String categoryId, Pageable pageable) {
@@ -314,9 +505,20 @@ public class QuestionService {
         return questions.stream().anyMatch(q -> q.getTitle().equalsIgnoreCase(title) && !q.getId().equals(excludeId));
     }
 
-    @Cacheable(value = "adminStats", key = "'questionCounts'")
+    @Cacheable(value = "adminStats", key = "T(com.algoarena.service.dsa.QuestionService).QUESTION_COUNTS_KEY", sync = true)
     public Map<String, Object> getQuestionCounts() {
         // System.out.println("CACHE MISS: Fetching question counts from database");
+        return computeQuestionCounts();
+    }
+
+    /**
+     * Uncached question counts (used by the cache and by refresh-ahead)
+     */
+    public Map<String, Object> computeQuestionCounts() {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        if (snapshot != null) {
+            return snapshotQuestionCounts(snapshot);
+        }
 
         Map<String, Object> counts = new HashMap<>();
 
@@ -329,7 +531,8 @@ public class QuestionService {
         levelCounts.put("hard", questionRepository.countByLevel(QuestionLevel.HARD));
         counts.put("byLevel", levelCounts);
 
-        List<Category> categories = categoryRepository.findAll();
+        // Names only - findAll() would resolve every category's createdBy user
+        List<Category> categories = categoryRepository.findAllNames();
         Map<String, Object> categoryStats = new HashMap<>();
         for (Category category : categories) {
             Map<String, Object> categoryData = new HashMap<>();
@@ -342,13 +545,93 @@ public class QuestionService {
         return counts;
     }
 
+    /**
+     * Same shape as computeQuestionCounts, counted from the snapshot's pre-built lists
+     */
+    private Map<String, Object> snapshotQuestionCounts(CatalogSnapshot snapshot) {
+        Map<String, Object> counts = new HashMap<>();
+        counts.put("total", (long) snapshot.size());
+
+        Map<String, Long> levelCounts = new HashMap<>();
+        for (QuestionLevel questionLevel : QuestionLevel.values()) {
+            levelCounts.put(questionLevel.getValue(), (long) snapshot.count(null, questionLevel));
+        }
+        counts.put("byLevel", levelCounts);
+
+        Map<String, Object> categoryStats = new HashMap<>();
+        snapshot.categoryNames().forEach((categoryId, name) -> {
+            Map<String, Object> categoryData = new HashMap<>();
+            categoryData.put("name", name);
+            categoryData.put("count", (long) snapshot.count(categoryId, null));
+            categoryStats.put(categoryId, categoryData);
+        });
+        counts.put("byCategory", categoryStats);
+
+        return counts;
+    }
+
+    /**
+     * Ranked search over the in-memory index (regex query until the index is built)
+     */
     public List<QuestionDTO> searchQuestions(String searchTerm) {
-        List<Question> questions = questionRepository.searchByTitleOrStatement(searchTerm);
+        return searchQuestions(searchTerm, null);
+    }
+
+    /**
+     * mode "fuzzy": typo-tolerant title search (trigrams + edit distance),
+     * anything else: the ranked term/prefix search
+     */
+    public List<QuestionDTO> searchQuestions(String searchTerm, String mode) {
+        List<Question> questions;
+        if (!questionSearchService.isReady()) {
+            questions = questionRepository.searchByTitleOrStatement(searchTerm);
+        } else if ("fuzzy".equalsIgnoreCase(mode)) {
+            questions = questionCatalogService.findAllInOrder(questionSearchService.fuzzySearch(searchTerm, FUZZY_SEARCH_LIMIT));
+        } else {
+            questions = questionCatalogService.findAllInOrder(questionSearchService.search(searchTerm, null, null));
+        }
         return questions.stream()
                 .map(QuestionDTO::fromEntity)
                 .toList();
     }
 
+    /**
+     * Typeahead suggestions: title (or title word) prefix matches from the in-memory
+     * snapshot, optionally limited to one category
+     */
+    public List<QuestionSuggestionDTO> autocomplete(String prefix, String categoryId, int limit) {
+        String category = categoryId != null && !categoryId.isEmpty() ? categoryId : null;
+
+        if (!questionSearchService.isReady()) {
+            // Index still building - plain database search for the first page
+            return questionRepository.findFiltered(category, null, prefix, PageRequest.of(0, limit))
+                    .stream()
+                    .map(question -> new QuestionSuggestionDTO(
+                            question.getId(),
+                            question.getTitle(),
+                            question.getLevel(),
+                            question.getCategory() != null ? question.getCategory().getId() : null,
+                            question.getCategory() != null ? question.getCategory().getName() : null))
+                    .toList();
+        }
+
+        List<TitleAutocomplete.Suggestion> suggestions = questionSearchService.autocomplete(prefix, category, limit);
+        if (suggestions.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, String> categoryNames = categoryNames();
+
+        return suggestions.stream()
+                .map(suggestion -> new QuestionSuggestionDTO(
+                        suggestion.id(),
+                        suggestion.title(),
+                        suggestion.level(),
+                        suggestion.categoryId(),
+                        categoryNames.get(suggestion.categoryId())))
+                .toList();
+    }
+
     public List<QuestionDTO> getQuestionsByCreator(String creatorId) {
         List<Question> questions = questionRepository.findByCreatedBy_Id(creatorId);
         return questions.stream()
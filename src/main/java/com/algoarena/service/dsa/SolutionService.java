@@ -4,9 +4,13 @@ package com.algoarena.service.dsa;
 import com.algoarena.dto.dsa.SolutionDTO;
 import com.algoarena.model.Solution;
 import com.algoarena.model.Question;
+import com.algoarena.model.QuestionMeta;
 import com.algoarena.model.User;
 import com.algoarena.repository.SolutionRepository;
 import com.algoarena.repository.QuestionRepository;
+import com.algoarena.service.cache.CacheInvalidationService;
+import com.algoarena.service.catalog.CatalogSnapshot;
+import com.algoarena.service.catalog.CatalogSnapshotService;
 import com.algoarena.service.file.VisualizerService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -29,6 +33,12 @@ public class SolutionService {
     @Autowired
     private VisualizerService visualizerService;
 
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
     // Get solution by ID
     public SolutionDTO getSolutionById(String id) {
         Solution solution = solutionRepository.findById(id).orElse(null);
@@ -41,9 +51,9 @@ public class SolutionService {
         return solutions.map(SolutionDTO::fromEntity);
     }
 
-    // Get solutions by question
+    // Get solutions by question (creators batch-loaded, not per solution; title from the catalog snapshot)
     public List<SolutionDTO> getSolutionsByQuestion(String questionId) {
-        List<Solution> solutions = solutionRepository.findByQuestion_IdOrderByCreatedAtAsc(questionId);
+        List<Solution> solutions = solutionRepository.findByQuestionResolved(questionId, questionTitle(questionId));
         return solutions.stream()
                 .map(SolutionDTO::fromEntity)
                 .toList();
@@ -78,6 +88,7 @@ public class SolutionService {
         }
 
         Solution savedSolution = solutionRepository.save(solution);
+        catalogChanged();
         return SolutionDTO.fromEntity(savedSolution);
     }
 
@@ -108,6 +119,7 @@ public class SolutionService {
         }
 
         Solution updatedSolution = solutionRepository.save(solution);
+        catalogChanged();
         return SolutionDTO.fromEntity(updatedSolution);
     }
 
@@ -127,6 +139,7 @@ public class SolutionService {
 
         // STEP 2: Delete the solution document
         solutionRepository.deleteById(id);
+        catalogChanged();
         // System.out.println("Successfully deleted solution: " + id);
     }
 
@@ -189,6 +202,7 @@ public class SolutionService {
         }
 
         Solution updatedSolution = solutionRepository.save(solution);
+        catalogChanged();
         return SolutionDTO.fromEntity(updatedSolution);
     }
 
@@ -204,6 +218,7 @@ public class SolutionService {
         }
 
         Solution updatedSolution = solutionRepository.save(solution);
+        catalogChanged();
         return SolutionDTO.fromEntity(updatedSolution);
     }
 
@@ -226,6 +241,7 @@ public class SolutionService {
         }
 
         Solution updatedSolution = solutionRepository.save(solution);
+        catalogChanged();
         return SolutionDTO.fromEntity(updatedSolution);
     }
 
@@ -241,9 +257,18 @@ public class SolutionService {
         }
 
         Solution updatedSolution = solutionRepository.save(solution);
+        catalogChanged();
         return SolutionDTO.fromEntity(updatedSolution);
     }
 
+    /**
+     * Solutions are part of the catalog (question details, category solution
+     * counts): evict the per-category stats and bump the catalog version
+     */
+    private void catalogChanged() {
+        cacheInvalidationService.catalogChanged(CacheInvalidationService.CATEGORY_STATS);
+    }
+
     // ENHANCED: Private helper methods for link validation
 
     /**
@@ -291,4 +316,16 @@ public class SolutionService {
         
         return cleanLink;
     }
-}
\ No newline at end of file
+
+    /**
+     * Title from the catalog snapshot; read from MongoDB only while it is loading
+     */
+    private String questionTitle(String questionId) {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        QuestionMeta meta = snapshot != null ? snapshot.find(questionId) : null;
+        if (meta == null) {
+            meta = questionRepository.findMetaByIds(List.of(questionId)).stream().findFirst().orElse(null);
+        }
+        return meta != null ? meta.title() : null;
+    }
+}
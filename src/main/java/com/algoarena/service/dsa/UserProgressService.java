@@ -6,20 +6,43 @@ import com.algoarena.model.UserProgress;
 import com.algoarena.model.Question;
 import com.algoarena.model.User;
 import com.algoarena.model.QuestionLevel;
+import com.algoarena.model.UserStats;
+import com.algoarena.model.QuestionMeta;
 import com.algoarena.repository.UserProgressRepository;
 import com.algoarena.repository.QuestionRepository;
 import com.algoarena.repository.UserRepository;
+import com.algoarena.service.cache.CacheInvalidationService;
+import com.algoarena.service.catalog.CatalogSnapshot;
+import com.algoarena.service.catalog.CatalogSnapshotService;
+import com.algoarena.service.leaderboard.LeaderboardService;
+import com.algoarena.service.progress.ActiveUserService;
+import com.algoarena.service.progress.ActivityHistogram;
+import com.algoarena.service.progress.SolvedBitmap;
+import com.algoarena.service.progress.SolvedSetService;
+import com.algoarena.service.progress.UserStatsService;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -30,12 +53,36 @@ public class UserProgressService {
     @Autowired
     private UserProgressRepository userProgressRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     @Autowired
     private QuestionRepository questionRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private UserQuestionOverlayService userQuestionOverlayService;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private SolvedSetService solvedSetService;
+
+    @Autowired
+    private UserStatsService userStatsService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private ActiveUserService activeUserService;
+
     // Get progress by question and user
     public UserProgressDTO getProgressByQuestionAndUser(String questionId, String userId) {
         UserProgress progress = userProgressRepository.findByUser_IdAndQuestion_Id(userId, questionId)
@@ -46,10 +93,9 @@ public class UserProgressService {
     /**
      * CRITICAL: Update user progress with PROPER cache eviction for
      * questions/categories
-     * This method triggers cache eviction to ensure real-time updates in questions
-     * and categories pages
+     * Only the acting user's cached pages are evicted so every other user keeps
+     * their warm questions/categories entries
      */
-    @CacheEvict(value = { "questionsSummary", "categoriesProgress", "userProgressStats" }, allEntries = true)
     public UserProgressDTO updateProgress(String questionId, String userId, boolean solved) {
         // Find question and user
         Question question = questionRepository.findById(questionId)
@@ -58,29 +104,92 @@ public class UserProgressService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        // Find existing progress or create new
-        UserProgress progress = userProgressRepository.findByUser_IdAndQuestion_Id(userId, questionId)
-                .orElse(new UserProgress());
+        // Atomic transition + stats and leaderboard updates under the user's stats
+        // lock, so a stats build or leaderboard seed for this user sees either
+        // neither or both
+        Transition transition = userStatsService.withUserLock(userId, () -> {
+            long leaderboardStamp = leaderboardService.changeStamp();
+            Transition applied = applyTransition(question, user, solved);
+            if (applied.changed()) {
+                userStatsService.recordChange(userId, questionId,
+                        question.getCategory() != null ? question.getCategory().getId() : null,
+                        question.getLevel(), !solved, solved, applied.solvedAt());
+                leaderboardService.solvedChanged(userId, solved ? 1 : -1, leaderboardStamp);
+            }
+            return applied;
+        });
+        UserProgress savedProgress = transition.progress();
+
+        // Solved bitmap is updated in place, not evicted
+        solvedSetService.update(userId, questionId, solved);
+        if (solved && transition.changed()) {
+            activeUserService.recordSolve(userId, savedProgress.getSolvedAt());
+        }
 
-        progress.setUser(user);
-        progress.setQuestion(question);
-        progress.setLevel(question.getLevel());
-        progress.setSolved(solved);
+        // CRITICAL: evict only this user's questions/categories/stats entries
+        cacheInvalidationService.evictUser(userId);
 
-        if (solved && progress.getSolvedAt() == null) {
-            progress.setSolvedAt(LocalDateTime.now());
-        } else if (!solved) {
-            progress.setSolvedAt(null);
+        return UserProgressDTO.fromEntity(savedProgress);
+    }
+
+    /**
+     * Result of one progress write: the progress as stored, whether the solved
+     * state actually changed, and the solve time it changed at (the removed
+     * solve's time on unsolve)
+     */
+    private record Transition(UserProgress progress, boolean changed, LocalDateTime solvedAt) {
+    }
+
+    /**
+     * Flip the solved state with one findAndModify matching only when the stored
+     * state differs, so concurrent requests (on any instance) see exactly one
+     * transition. A missing document is inserted; losing that insert to a
+     * concurrent one (unique user/question index) counts as no change.
+     */
+    private Transition applyTransition(Question question, User user, boolean solved) {
+        LocalDateTime now = LocalDateTime.now();
+        Criteria progressCriteria = Criteria.where("user.$id").is(new ObjectId(user.getId()))
+                .and("question.$id").is(ObjectId.isValid(question.getId()) ? new ObjectId(question.getId()) : question.getId());
+
+        Query transitionQuery = new Query(Criteria.where("solved").ne(solved).andOperator(progressCriteria));
+        transitionQuery.fields().include("solvedAt");
+        Update update = new Update()
+                .set("solved", solved)
+                .set("level", question.getLevel())
+                .set("solvedAt", solved ? now : null);
+        UserProgress previous = mongoTemplate.findAndModify(transitionQuery, update, UserProgress.class);
+        if (previous != null) {
+            return new Transition(progress(previous.getId(), user, question, solved, solved ? now : null),
+                    true, solved ? now : previous.getSolvedAt());
         }
 
-        UserProgress savedProgress = userProgressRepository.save(progress);
+        // Already in the requested state, or no progress yet
+        Query existingQuery = new Query(progressCriteria);
+        existingQuery.fields().include("solved").include("solvedAt");
+        UserProgress existing = mongoTemplate.findOne(existingQuery, UserProgress.class);
+        if (existing != null) {
+            return new Transition(progress(existing.getId(), user, question, existing.isSolved(), existing.getSolvedAt()),
+                    false, null);
+        }
 
-        // CRITICAL: @CacheEvict annotation above ensures all relevant caches are
-        // cleared
-        // System.out.println("User progress updated and ALL CACHES EVICTED for user: " + userId +
-        //         " - question: " + questionId + " - solved: " + solved);
+        UserProgress created = progress(null, user, question, solved, solved ? now : null);
+        try {
+            created = userProgressRepository.insert(created);
+            return new Transition(created, solved, created.getSolvedAt());
+        } catch (DuplicateKeyException e) {
+            // A concurrent request created it first and owns the transition
+            existing = mongoTemplate.findOne(existingQuery, UserProgress.class);
+            return existing != null
+                    ? new Transition(progress(existing.getId(), user, question, existing.isSolved(), existing.getSolvedAt()), false, null)
+                    : new Transition(created, false, null);
+        }
+    }
 
-        return UserProgressDTO.fromEntity(savedProgress);
+    private static UserProgress progress(String id, User user, Question question, boolean solved, LocalDateTime solvedAt) {
+        UserProgress progress = new UserProgress(user, question, solved, question.getLevel());
+        progress.setId(id);
+        progress.setSolvedAt(solvedAt);
+        return progress;
     }
 
     // Get all progress for a user
@@ -101,34 +210,38 @@ public class UserProgressService {
 
     /**
      * UPDATED: Get user progress statistics without streak, with recent solved
-     * questions
+     * questions - CACHED per user, evicted on that user's progress changes
+     * Solved totals and recent solves come from the user's materialized
+     * user_stats document (one read by id), catalog totals from the snapshot.
      */
+    @Cacheable(value = "userProgressStats", sync = true)
     public Map<String, Object> getUserProgressStats(String userId) {
         Map<String, Object> stats = new HashMap<>();
+        UserStats userStats = userStatsService.getStats(userId);
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
 
         // Total solved questions
-        long totalSolved = userProgressRepository.countByUser_IdAndSolvedTrue(userId);
+        long totalSolved = userStats.getTotalSolved();
         stats.put("totalSolved", totalSolved);
 
         // Solved questions by level
         Map<String, Long> solvedByLevel = new HashMap<>();
-        solvedByLevel.put("easy",
-                userProgressRepository.countByUser_IdAndSolvedTrueAndLevel(userId, QuestionLevel.EASY));
-        solvedByLevel.put("medium",
-                userProgressRepository.countByUser_IdAndSolvedTrueAndLevel(userId, QuestionLevel.MEDIUM));
-        solvedByLevel.put("hard",
-                userProgressRepository.countByUser_IdAndSolvedTrueAndLevel(userId, QuestionLevel.HARD));
+        for (QuestionLevel level : QuestionLevel.values()) {
+            solvedByLevel.put(level.getValue(), userStats.getSolvedByLevel().getOrDefault(level.getValue(), 0L));
+        }
         stats.put("solvedByLevel", solvedByLevel);
 
-        // Total questions available
-        long totalQuestions = questionRepository.count();
+        // Total questions available (catalog snapshot, counted in MongoDB until it is loaded)
+        long totalQuestions = snapshot != null ? snapshot.size() : questionRepository.count();
         stats.put("totalQuestions", totalQuestions);
 
         // Questions by level
         Map<String, Long> totalByLevel = new HashMap<>();
-        totalByLevel.put("easy", questionRepository.countByLevel(QuestionLevel.EASY));
-        totalByLevel.put("medium", questionRepository.countByLevel(QuestionLevel.MEDIUM));
-        totalByLevel.put("hard", questionRepository.countByLevel(QuestionLevel.HARD));
+        for (QuestionLevel level : QuestionLevel.values()) {
+            totalByLevel.put(level.getValue(), snapshot != null
+                    ? snapshot.count(null, level)
+                    : questionRepository.countByLevel(level));
+        }
         stats.put("totalByLevel", totalByLevel);
 
         // Progress percentage
@@ -148,17 +261,39 @@ public class UserProgressService {
         // REMOVED: streak calculation (as requested)
         // stats.put("streak", 0);
 
-        // NEW: Recent solved count (last 7 days) - but simpler implementation
-        int recentSolved = getRecentSolvedCount(userId, 7);
+        // NEW: Recent solved count (last 7 days) from the daily activity histogram
+        int recentSolved = userStatsService.getActivity(userId).solvedInLast(LocalDate.now(), 7);
         stats.put("recentSolved", recentSolved);
 
         // NEW: Add recent solved questions list (for pagination on me page)
-        List<Map<String, Object>> recentSolvedQuestions = getRecentSolvedQuestions(userId);
+        List<Map<String, Object>> recentSolvedQuestions = snapshot != null
+                ? getRecentSolvedQuestions(userStats, snapshot)
+                : getRecentSolvedQuestions(userId);
         stats.put("recentSolvedQuestions", recentSolvedQuestions);
 
         return stats;
     }
 
+    /**
+     * NEW: Recent solved questions from the stats ring, titles and category
+     * names from the catalog snapshot (no progress/question reads)
+     */
+    private List<Map<String, Object>> getRecentSolvedQuestions(UserStats userStats, CatalogSnapshot snapshot) {
+        return userStats.getRecentSolves().stream()
+                .filter(solve -> snapshot.contains(solve.getQuestionId()))
+                .limit(10)
+                .map(solve -> {
+                    Map<String, Object> recentQuestion = new HashMap<>();
+                    recentQuestion.put("questionId", solve.getQuestionId());
+                    recentQuestion.put("title", snapshot.find(solve.getQuestionId()).title());
+                    recentQuestion.put("category", snapshot.categoryName(solve.getCategoryId()));
+                    recentQuestion.put("level", solve.getLevel() != null ? solve.getLevel().toString() : null);
+                    recentQuestion.put("solvedAt", solve.getSolvedAt());
+                    return recentQuestion;
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * NEW: Get recent solved questions with details for me page
      */
@@ -214,12 +349,20 @@ public class UserProgressService {
         long totalSolvedGlobally = userProgressRepository.countTotalSolvedQuestions();
         stats.put("totalSolvedGlobally", totalSolvedGlobally);
 
-        // Count distinct users who solved at least one question
-        long activeUsers = getDistinctActiveUsersCount();
+        // Count distinct users who solved at least one question (exact, in memory;
+        // null while the leaderboard is loading - never loaded from here)
+        Long activeUsers = activeUserService.activeUsers();
         stats.put("activeUsers", activeUsers);
 
+        // Distinct solvers over the last 1 / 7 / 30 days (HyperLogLog estimates)
+        stats.put("dailyActiveSolvers", activeUserService.activeSolvers(1));
+        stats.put("weeklyActiveSolvers", activeUserService.activeSolvers(7));
+        stats.put("monthlyActiveSolvers", activeUserService.activeSolvers(30));
+
         // Average questions solved per active user
-        if (activeUsers > 0) {
+        if (activeUsers == null) {
+            stats.put("averageQuestionsPerUser", null);
+        } else if (activeUsers > 0) {
             double avgQuestionsPerUser = (double) totalSolvedGlobally / activeUsers;
             stats.put("averageQuestionsPerUser", Math.round(avgQuestionsPerUser * 100.0) / 100.0);
         } else {
@@ -233,22 +376,35 @@ public class UserProgressService {
     public Map<String, Object> getUserCategoryProgress(String userId, String categoryId) {
         Map<String, Object> progress = new HashMap<>();
 
-        // Get all questions in this category
-        var questionsInCategory = questionRepository.findByCategory_Id(categoryId);
-        long totalQuestionsInCategory = questionsInCategory.size();
-
-        // Count solved questions in this category
+        long totalQuestionsInCategory;
         long solvedInCategory = 0;
         Map<String, Long> solvedByLevel = new HashMap<>();
         solvedByLevel.put("easy", 0L);
         solvedByLevel.put("medium", 0L);
         solvedByLevel.put("hard", 0L);
 
-        for (var question : questionsInCategory) {
-            if (hasUserSolvedQuestion(userId, question.getId())) {
-                solvedInCategory++;
-                String level = question.getLevel().toString().toLowerCase();
-                solvedByLevel.put(level, solvedByLevel.get(level) + 1);
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        if (snapshot != null) {
+            // Snapshot totals + solved bitmap AND category/level masks
+            totalQuestionsInCategory = snapshot.count(categoryId, null);
+            SolvedBitmap solvedBitmap = solvedSetService.getSolved(userId);
+            for (QuestionLevel level : QuestionLevel.values()) {
+                long solved = solvedSetService.countSolved(solvedBitmap, categoryId, level);
+                solvedByLevel.put(level.getValue(), solved);
+                solvedInCategory += solved;
+            }
+        } else {
+            // Questions in this category (projections) and the user's solved set (cached overlay)
+            var questionsInCategory = questionRepository.findMetaByCategory(categoryId);
+            totalQuestionsInCategory = questionsInCategory.size();
+            var solvedQuestionIds = userQuestionOverlayService.getOverlay(userId).getSolved().keySet();
+
+            for (var question : questionsInCategory) {
+                if (solvedQuestionIds.contains(question.id())) {
+                    solvedInCategory++;
+                    String level = question.level().toString().toLowerCase();
+                    solvedByLevel.put(level, solvedByLevel.get(level) + 1);
+                }
             }
         }
 
@@ -268,62 +424,114 @@ public class UserProgressService {
         userProgressRepository.deleteByQuestion_Id(questionId);
     }
 
-    // Get user's rank/leaderboard position
-    public Map<String, Object> getUserRank(String userId) {
-        Map<String, Object> rankInfo = new HashMap<>();
-
-        long userSolvedCount = userProgressRepository.countByUser_IdAndSolvedTrue(userId);
+    /**
+     * NEW: Delete all progress of deleted questions. Each user who had solved
+     * one of them gets the solves removed and taken back from their stats and
+     * leaderboard count under their stats lock, so only those users' counters
+     * change; the unsolved progress left over is deleted in bulk.
+     *
+     * @param questions the deleted questions, as they were when the solves were counted
+     */
+    public void deleteProgressForQuestions(Collection<QuestionMeta> questions) {
+        if (questions.isEmpty()) {
+            return;
+        }
+        Map<String, QuestionMeta> byId = questions.stream()
+                .collect(Collectors.toMap(QuestionMeta::id, meta -> meta, (first, second) -> first));
+        List<Object> questionIds = byId.keySet().stream()
+                .map(id -> (Object) (ObjectId.isValid(id) ? new ObjectId(id) : id))
+                .toList();
 
-        // Count how many users have solved more questions (simplified ranking)
-        // This would need a more sophisticated query in a real implementation
+        Query solversQuery = new Query(Criteria.where("question.$id").in(questionIds).and("solved").is(true));
+        solversQuery.fields().include("user");
+        Set<String> solvers = new LinkedHashSet<>();
+        for (Document doc : mongoTemplate.find(solversQuery, Document.class, "userprogress")) {
+            if (doc.get("user") instanceof DBRef ref) {
+                solvers.add(ref.getId().toString());
+            }
+        }
 
-        rankInfo.put("userSolvedCount", userSolvedCount);
-        rankInfo.put("rank", "Calculation needed"); // Placeholder
+        for (String userId : solvers) {
+            userStatsService.withUserLock(userId, () -> {
+                long leaderboardStamp = leaderboardService.changeStamp();
+                Query removeQuery = new Query(Criteria.where("user.$id").is(new ObjectId(userId))
+                        .and("question.$id").in(questionIds)
+                        .and("solved").is(true));
+                List<Document> removed = mongoTemplate.findAllAndRemove(removeQuery, Document.class, "userprogress");
+                if (!removed.isEmpty()) {
+                    userStatsService.solvesRemoved(userId, removed.stream()
+                            .map(doc -> removedSolve(doc, byId))
+                            .toList());
+                    leaderboardService.solvedChanged(userId, -removed.size(), leaderboardStamp);
+                }
+                return null;
+            });
+            cacheInvalidationService.evictUser(userId);
+        }
 
-        return rankInfo;
+        // No solves left - nothing else counts these documents
+        byId.keySet().forEach(userProgressRepository::deleteByQuestion_Id);
     }
 
-    // ==================== NEW HELPER METHODS ====================
-
     /**
-     * Get count of questions solved in recent days
+     * NEW: A question moved to another category and/or level - keep its progress
+     * level and its solvers' stats buckets in step. Call under
+     * UserStatsService.withAllUserLocks together with the question write.
      */
-    private int getRecentSolvedCount(String userId, int days) {
-        try {
-            LocalDateTime cutoffDate = LocalDateTime.now().minusDays(days);
-
-            List<UserProgress> allSolved = userProgressRepository.findByUser_IdAndSolvedTrue(userId);
-
-            return (int) allSolved.stream()
-                    .filter(progress -> progress.getSolvedAt() != null && progress.getSolvedAt().isAfter(cutoffDate))
-                    .count();
-        } catch (Exception e) {
-            return 0; // Return 0 if calculation fails
+    public void questionMoved(String questionId, String oldCategoryId, QuestionLevel oldLevel,
+                              String newCategoryId, QuestionLevel newLevel) {
+        if (oldLevel != newLevel) {
+            Object questionIdValue = ObjectId.isValid(questionId) ? new ObjectId(questionId) : questionId;
+            mongoTemplate.updateMulti(new Query(Criteria.where("question.$id").is(questionIdValue)),
+                    new Update().set("level", newLevel), UserProgress.class);
         }
+        userStatsService.solvedQuestionMoved(questionId, oldCategoryId, oldLevel, newCategoryId, newLevel);
+    }
+
+    // One removed solve, counted under the deleted question's category and level
+    private static UserStats.RecentSolve removedSolve(Document doc, Map<String, QuestionMeta> questions) {
+        String questionId = doc.get("question") instanceof DBRef ref ? ref.getId().toString() : null;
+        QuestionMeta meta = questions.get(questionId);
+        Date solvedAt = doc.getDate("solvedAt");
+        return new UserStats.RecentSolve(questionId,
+                meta != null ? meta.categoryId() : null,
+                meta != null ? meta.level() : null,
+                solvedAt != null ? LocalDateTime.ofInstant(solvedAt.toInstant(), ZoneId.systemDefault()) : null);
     }
 
     /**
-     * Count distinct users who have solved at least one question
-     * This method handles the distinct count logic since MongoDB aggregation can be
-     * complex
+     * Get user's rank/leaderboard position - O(log n) lookup in the in-memory
+     * leaderboard (rank, percentile, ranked user count)
      */
-    private long getDistinctActiveUsersCount() {
-        try {
-            List<UserProgress> allSolvedProgress = userProgressRepository.findAllSolvedProgress();
-
-            Set<String> distinctUserIds = new HashSet<>();
-            for (UserProgress progress : allSolvedProgress) {
-                if (progress.getUser() != null) {
-                    distinctUserIds.add(progress.getUser().getId());
-                }
-            }
+    public Map<String, Object> getUserRank(String userId) {
+        return leaderboardService.getRank(userId);
+    }
 
-            return distinctUserIds.size();
-        } catch (Exception e) {
-            return 0; // Return 0 if calculation fails
-        }
+    /**
+     * NEW: Daily activity for the me page - solves per day (heatmap, oldest
+     * first), current/longest streak and recent counts, all from the cached
+     * per-user histogram (no progress scan)
+     */
+    public Map<String, Object> getUserActivity(String userId, int days) {
+        int span = Math.min(Math.max(1, days), UserStatsService.ACTIVITY_DAYS);
+        LocalDate today = LocalDate.now();
+        ActivityHistogram activity = userStatsService.getActivity(userId);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("startDate", today.minusDays(span - 1L).toString());
+        result.put("endDate", today.toString());
+        result.put("days", activity.heatmap(today, span));
+        result.put("currentStreak", activity.currentStreak(today));
+        result.put("longestStreak", activity.longestStreak());
+        result.put("activeDays", activity.activeDays());
+        result.put("solvedLast7Days", activity.solvedInLast(today, 7));
+        result.put("solvedLast30Days", activity.solvedInLast(today, 30));
+        result.put("solvedInPeriod", activity.solvedInLast(today, span));
+        return result;
     }
 
+    // ==================== NEW HELPER METHODS ====================
+
     /**
      * Get bulk progress status for multiple questions (efficient, no 404s)
      * 
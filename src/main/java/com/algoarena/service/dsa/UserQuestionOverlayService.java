@@ -0,0 +1,136 @@
+// src/main/java/com/algoarena/service/dsa/UserQuestionOverlayService.java
+package com.algoarena.service.dsa;
+
+import com.algoarena.dto.dsa.QuestionSummaryDTO;
+import com.algoarena.repository.UserProgressRepository;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-user overlay merged onto the shared question catalog at read time.
+ *
+ * Holds only what differs between users - solved flags with solvedAt and
+ * approach counts - so cache memory grows with catalog size plus each user's
+ * deltas instead of users x pages of fully materialized summaries.
+ */
+@Service
+public class UserQuestionOverlayService {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private UserProgressRepository userProgressRepository;
+
+    @Autowired
+    private BulkApproachService bulkApproachService;
+
+    /**
+     * HYBRID: Get user's solved/approach overlay - CACHED per user, evicted on
+     * that user's progress or approach changes
+     */
+    @Cacheable(value = "userQuestionOverlay", sync = true)
+    public Overlay getOverlay(String userId) {
+        // System.out.println("CACHE MISS: Building question overlay for user: " + userId);
+
+        Map<String, LocalDateTime> solvedAt = getSolvedAt(userId);
+        Map<String, Integer> approachCounts = bulkApproachService.getApproachCountsForUser(userId);
+
+        return new Overlay(solvedAt, approachCounts);
+    }
+
+    /**
+     * Solved question ids with solve time, read from raw documents so the
+     * user/question DBRefs are never resolved
+     */
+    private Map<String, LocalDateTime> getSolvedAt(String userId) {
+        Map<String, LocalDateTime> solvedAt = new HashMap<>();
+
+        try {
+            Query query = new Query(Criteria.where("user.$id").is(new ObjectId(userId)).and("solved").is(true));
+            query.fields().include("question").include("solvedAt");
+
+            for (Document doc : mongoTemplate.find(query, Document.class, "userprogress")) {
+                Object question = doc.get("question");
+                if (question instanceof DBRef ref) {
+                    Date date = doc.getDate("solvedAt");
+                    solvedAt.put(ref.getId().toString(), date != null
+                            ? LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault())
+                            : null);
+                }
+            }
+        } catch (Exception e) {
+            // Fallback to the repository (resolves DBRefs, slower but always works)
+            userProgressRepository.findByUser_IdAndSolvedTrue(userId).forEach(progress -> {
+                if (progress.getQuestion() != null) {
+                    solvedAt.put(progress.getQuestion().getId(), progress.getSolvedAt());
+                }
+            });
+        }
+
+        return solvedAt;
+    }
+
+    /**
+     * Immutable per-user deltas over the question catalog
+     */
+    public static final class Overlay {
+        private final Map<String, LocalDateTime> solvedAt;
+        private final Map<String, Integer> approachCounts;
+
+        public Overlay(Map<String, LocalDateTime> solvedAt, Map<String, Integer> approachCounts) {
+            // HashMap copies: solvedAt may legitimately hold null times for old records
+            this.solvedAt = new HashMap<>(solvedAt);
+            this.approachCounts = new HashMap<>(approachCounts);
+        }
+
+        public boolean isSolved(String questionId) {
+            return solvedAt.containsKey(questionId);
+        }
+
+        public LocalDateTime getSolvedAt(String questionId) {
+            return solvedAt.get(questionId);
+        }
+
+        public int getApproachCount(String questionId) {
+            return approachCounts.getOrDefault(questionId, 0);
+        }
+
+        public Map<String, LocalDateTime> getSolved() {
+            return Collections.unmodifiableMap(solvedAt);
+        }
+
+        public Map<String, Integer> getApproachCounts() {
+            return Collections.unmodifiableMap(approachCounts);
+        }
+
+        /**
+         * Number of entries held - used as the cache weight
+         */
+        public int size() {
+            return solvedAt.size() + approachCounts.size();
+        }
+
+        public QuestionSummaryDTO.UserProgressSummary toProgressSummary(String questionId) {
+            boolean solved = isSolved(questionId);
+            return new QuestionSummaryDTO.UserProgressSummary(
+                    solved,
+                    solved ? getSolvedAt(questionId) : null,
+                    getApproachCount(questionId));
+        }
+    }
+}
@@ -0,0 +1,296 @@
+// src/main/java/com/algoarena/service/leaderboard/LeaderboardService.java
+package com.algoarena.service.leaderboard;
+
+import com.algoarena.model.User;
+import com.algoarena.repository.DbRefs;
+import com.algoarena.repository.UserProgressRepository;
+import com.algoarena.repository.UserRepository;
+import com.algoarena.service.progress.UserStatsService;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Leaderboard and user ranks by number of solved questions.
+ *
+ * Solved counts live in a {@link SolvedRankIndex}, seeded in the background
+ * once the application is ready from one aggregation over userprogress. Each
+ * solve/unsolve applies +1/-1 from the atomic progress transition, in memory
+ * and O(log n); no I/O ever runs under the service lock.
+ *
+ * Changes racing a seed: callers take a {@link #changeStamp()} before their
+ * progress write and report under the user's stats lock. A change reported
+ * while the seed runs, or stamped before it finished, may or may not have
+ * been read by it, so that user is re-counted instead of adjusted - after the
+ * seed, or by the reporting caller (which still holds the user's lock, so the
+ * count includes its own write and no other change of that user).
+ *
+ * Reads never load: until the seed succeeds they return an empty leaderboard
+ * (ready=false), and a failed seed is retried on a fixed interval.
+ */
+@Service
+public class LeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private UserProgressRepository userProgressRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserStatsService userStatsService;
+
+    @Value("${app.leaderboard.enabled:true}")
+    private boolean enabled;
+
+    private final SolvedRankIndex index = new SolvedRankIndex();
+
+    private final Object seedLock = new Object();
+
+    // Guarded by this
+    private boolean ready;
+    private boolean seeding;
+    private boolean loadFailed;
+    private long generation;
+    private final Set<String> pendingUsers = new LinkedHashSet<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            logger.info("Leaderboard disabled");
+            return;
+        }
+
+        Thread seedThread = new Thread(this::rebuild, "leaderboard");
+        seedThread.setDaemon(true);
+        seedThread.start();
+    }
+
+    public synchronized boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Rank info for one user: solved count, competition rank and the share of
+     * ranked users with at most as many solves
+     */
+    public synchronized Map<String, Object> getRank(String userId) {
+        Map<String, Object> rankInfo = new HashMap<>();
+        int solved = index.solved(userId);
+        int rankedUsers = index.size();
+        double percentile = solved > 0 && rankedUsers > 0
+                ? (rankedUsers - index.countAbove(solved)) * 100.0 / rankedUsers
+                : 0.0;
+
+        rankInfo.put("userSolvedCount", solved);
+        rankInfo.put("rank", solved > 0 ? index.rank(userId) : null);
+        rankInfo.put("rankedUsers", rankedUsers);
+        rankInfo.put("percentile", Math.round(percentile * 100.0) / 100.0);
+        rankInfo.put("ready", ready);
+        return rankInfo;
+    }
+
+    /**
+     * Number of users with at least one solve (exact once ready, 0 until then)
+     */
+    public synchronized int rankedUsers() {
+        return index.size();
+    }
+
+    /**
+     * One page of the leaderboard, most solved first (limit capped at MAX_PAGE_SIZE)
+     */
+    public Map<String, Object> getLeaderboard(int offset, int limit) {
+        int from = Math.max(0, offset);
+        int size = Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
+
+        List<SolvedRankIndex.Entry> rows;
+        int rankedUsers;
+        boolean loaded;
+        synchronized (this) {
+            rows = index.page(from, size);
+            loaded = ready;
+            rankedUsers = index.size();
+        }
+
+        // Names and avatars for this page only
+        Map<String, User> users = new HashMap<>();
+        userRepository.findAllById(rows.stream().map(SolvedRankIndex.Entry::userId).toList())
+                .forEach(user -> users.put(user.getId(), user));
+
+        List<Map<String, Object>> entries = new ArrayList<>(rows.size());
+        for (SolvedRankIndex.Entry row : rows) {
+            User user = users.get(row.userId());
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("rank", row.rank());
+            entry.put("userId", row.userId());
+            entry.put("name", user != null ? user.getName() : null);
+            entry.put("image", user != null ? user.getImage() : null);
+            entry.put("solved", row.solved());
+            entries.add(entry);
+        }
+
+        Map<String, Object> leaderboard = new HashMap<>();
+        leaderboard.put("entries", entries);
+        leaderboard.put("offset", from);
+        leaderboard.put("limit", size);
+        leaderboard.put("totalUsers", rankedUsers);
+        leaderboard.put("ready", loaded);
+        return leaderboard;
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    /**
+     * Reload every user's solved count with one aggregation (startup, and retries
+     * after a failed load). One seed at a time; the aggregation runs outside the
+     * service lock.
+     */
+    public void rebuild() {
+        synchronized (seedLock) {
+            synchronized (this) {
+                seeding = true;
+                pendingUsers.clear();
+            }
+
+            long start = System.currentTimeMillis();
+            Map<String, Integer> counts = new HashMap<>();
+            try {
+                Aggregation aggregation = Aggregation.newAggregation(
+                        Aggregation.match(Criteria.where("solved").is(true)),
+                        DbRefs.countById("$user"));
+                for (Document result : mongoTemplate.aggregate(aggregation, "userprogress", Document.class).getMappedResults()) {
+                    Object userId = result.get("_id");
+                    if (userId != null) {
+                        counts.put(userId.toString(), ((Number) result.get("count")).intValue());
+                    }
+                }
+            } catch (Exception e) {
+                synchronized (this) {
+                    index.clear();
+                    pendingUsers.clear();
+                    seeding = false;
+                    ready = false;
+                    loadFailed = true;
+                    generation++;
+                }
+                logger.warn("Leaderboard load failed: {}", e.getMessage());
+                return;
+            }
+
+            synchronized (this) {
+                index.clear();
+                counts.forEach(index::set);
+                seeding = false;
+                ready = true;
+                loadFailed = false;
+                generation++;
+            }
+            logger.info("Leaderboard loaded: {} users in {} ms", counts.size(), System.currentTimeMillis() - start);
+
+            recountPendingUsers();
+        }
+    }
+
+    /**
+     * Retry a failed seed (no-op while loaded, loading or disabled)
+     */
+    @Scheduled(initialDelayString = "${app.leaderboard.retry-interval:60s}",
+               fixedDelayString = "${app.leaderboard.retry-interval:60s}")
+    public void retryFailedLoad() {
+        boolean retry;
+        synchronized (this) {
+            retry = enabled && loadFailed;
+        }
+        if (retry) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Stamp to take before a progress write and pass to {@link #solvedChanged}
+     */
+    public synchronized long changeStamp() {
+        return generation;
+    }
+
+    /**
+     * Apply one user's solved-count change (+1 solve, -1 unsolve). Call while
+     * holding the user's stats lock (UserStatsService.withUserLock), after the
+     * progress write that caused it.
+     */
+    public void solvedChanged(String userId, int delta, long stamp) {
+        synchronized (this) {
+            if (!ready && !seeding) {
+                return; // The next seed reads it
+            }
+            if (seeding || pendingUsers.contains(userId)) {
+                pendingUsers.add(userId);
+                return;
+            }
+            if (stamp == generation) {
+                index.set(userId, Math.max(0, index.solved(userId) + delta));
+                return;
+            }
+        }
+        // Written before the last seed finished - it may already be counted
+        setCounted(userId, userProgressRepository.countByUser_IdAndSolvedTrue(userId));
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Re-count the users changed while the seed ran, each under its stats lock
+     * so no change of that user is in flight while it is counted
+     */
+    private void recountPendingUsers() {
+        while (true) {
+            String userId;
+            synchronized (this) {
+                if (seeding || pendingUsers.isEmpty()) {
+                    return;
+                }
+                userId = pendingUsers.iterator().next();
+            }
+            userStatsService.withUserLock(userId, () -> {
+                long solved = userProgressRepository.countByUser_IdAndSolvedTrue(userId);
+                synchronized (this) {
+                    pendingUsers.remove(userId);
+                }
+                setCounted(userId, solved);
+                return null;
+            });
+        }
+    }
+
+    private synchronized void setCounted(String userId, long solved) {
+        if (seeding) {
+            pendingUsers.add(userId); // Re-counted after that seed
+        } else if (ready) {
+            index.set(userId, (int) solved);
+        }
+    }
+}
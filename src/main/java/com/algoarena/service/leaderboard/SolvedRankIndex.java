@@ -0,0 +1,201 @@
+// src/main/java/com/algoarena/service/leaderboard/SolvedRankIndex.java
+package com.algoarena.service.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Order statistics over users' solved counts.
+ *
+ * - A Fenwick tree indexed by solved count holds how many users have each
+ *   count, so "users with more solved than c" is one prefix sum
+ * - Users with the same count are kept in a bucket ordered by user id (ties
+ *   share a rank; the id only makes leaderboard pages stable)
+ * - Only users with at least one solve are ranked
+ *
+ * set / rank are O(log n); a leaderboard page locates its first count with a
+ * Fenwick descent (O(log n)) and then walks the buckets. The tree grows by
+ * doubling when a count exceeds its capacity.
+ *
+ * Not thread-safe: LeaderboardService serializes writers and readers.
+ */
+public class SolvedRankIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * One leaderboard row
+     */
+    public record Entry(int rank, String userId, int solved) {
+    }
+
+    // Fenwick tree over counts 0..capacity-1 (1-based internally)
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private int[] frequency = new int[INITIAL_CAPACITY];
+
+    private final Map<String, Integer> counts = new HashMap<>();
+    private final Map<Integer, TreeSet<String>> buckets = new HashMap<>();
+
+    // ==================== UPDATES ====================
+
+    /**
+     * Set a user's solved count (0 removes the user from the ranking)
+     */
+    public void set(String userId, int solved) {
+        Integer previous = counts.get(userId);
+        if (previous != null && previous == solved) {
+            return;
+        }
+        if (previous != null) {
+            add(previous, -1);
+            TreeSet<String> bucket = buckets.get(previous);
+            bucket.remove(userId);
+            if (bucket.isEmpty()) {
+                buckets.remove(previous);
+            }
+            counts.remove(userId);
+        }
+        if (solved > 0) {
+            ensureCapacity(solved);
+            add(solved, 1);
+            buckets.computeIfAbsent(solved, count -> new TreeSet<>()).add(userId);
+            counts.put(userId, solved);
+        }
+    }
+
+    public void clear() {
+        tree = new int[INITIAL_CAPACITY + 1];
+        frequency = new int[INITIAL_CAPACITY];
+        counts.clear();
+        buckets.clear();
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Number of ranked users (at least one solve)
+     */
+    public int size() {
+        return counts.size();
+    }
+
+    /**
+     * The user's solved count (0 if not ranked)
+     */
+    public int solved(String userId) {
+        return counts.getOrDefault(userId, 0);
+    }
+
+    /**
+     * Users with strictly more solved than {@code solved}
+     */
+    public int countAbove(int solved) {
+        if (solved < 0) {
+            return counts.size();
+        }
+        return counts.size() - prefix(Math.min(solved, frequency.length - 1));
+    }
+
+    /**
+     * 1-based competition rank (ties share a rank); unranked users come after
+     * every ranked one
+     */
+    public int rank(String userId) {
+        Integer solved = counts.get(userId);
+        return solved != null ? countAbove(solved) + 1 : counts.size() + 1;
+    }
+
+    /**
+     * Rows {@code offset .. offset + limit - 1} of the leaderboard, most solved first
+     */
+    public List<Entry> page(int offset, int limit) {
+        List<Entry> entries = new ArrayList<>(Math.max(0, Math.min(limit, counts.size() - offset)));
+        if (offset < 0 || limit <= 0 || offset >= counts.size()) {
+            return entries;
+        }
+
+        // Count holding the offset-th user in descending order
+        int solved = select(counts.size() - 1 - offset);
+        int skip = offset - countAbove(solved);
+        for (; solved > 0 && entries.size() < limit; solved--) {
+            TreeSet<String> bucket = buckets.get(solved);
+            if (bucket == null) {
+                continue;
+            }
+            int rank = countAbove(solved) + 1;
+            Iterator<String> users = bucket.iterator();
+            for (; skip > 0 && users.hasNext(); skip--) {
+                users.next();
+            }
+            while (users.hasNext() && entries.size() < limit) {
+                entries.add(new Entry(rank, users.next(), solved));
+            }
+        }
+        return entries;
+    }
+
+    // ==================== HELPERS ====================
+
+    private void add(int solved, int delta) {
+        frequency[solved] += delta;
+        for (int i = solved + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Users with a count <= solved
+     */
+    private int prefix(int solved) {
+        int sum = 0;
+        for (int i = solved + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Smallest count whose prefix sum exceeds {@code position} (0-based,
+     * ascending order) - Fenwick descent
+     */
+    private int select(int position) {
+        int index = 0;
+        int remaining = position;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = index + step;
+            if (next < tree.length && tree[next] <= remaining) {
+                index = next;
+                remaining -= tree[next];
+            }
+        }
+        // index is the 1-based position before the answer, i.e. the 0-based count
+        return index;
+    }
+
+    private void ensureCapacity(int solved) {
+        if (solved < frequency.length) {
+            return;
+        }
+        int capacity = frequency.length;
+        while (capacity <= solved) {
+            capacity <<= 1;
+        }
+        int[] grown = new int[capacity];
+        System.arraycopy(frequency, 0, grown, 0, frequency.length);
+        frequency = grown;
+
+        // Linear Fenwick build from the frequencies
+        tree = new int[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            tree[i] += frequency[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
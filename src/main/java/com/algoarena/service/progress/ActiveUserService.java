@@ -0,0 +1,133 @@
+// src/main/java/com/algoarena/service/progress/ActiveUserService.java
+package com.algoarena.service.progress;
+
+import com.algoarena.service.leaderboard.LeaderboardService;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Active solver counts in constant memory.
+ *
+ * - All time: exact - the number of ranked users in the leaderboard index
+ *   (unknown until the leaderboard is loaded; reading it never loads it)
+ * - Last 1 / 7 / 30 days: one {@link HyperLogLog} per calendar day (server
+ *   zone); a window is the union of its days' sketches
+ *
+ * Day sketches are seeded in the background from the last WINDOW_DAYS of
+ * solves and fed by every new solve. HyperLogLog adds are idempotent, so a
+ * solve seen by both the seed and the update is counted once. A later unsolve
+ * does not remove the activity.
+ */
+@Service
+public class ActiveUserService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActiveUserService.class);
+
+    public static final int WINDOW_DAYS = 30;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    // Day -> sketch of the users who solved something that day, guarded by this
+    private final TreeMap<LocalDate, HyperLogLog> days = new TreeMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread seedThread = new Thread(this::seed, "active-users");
+        seedThread.setDaemon(true);
+        seedThread.start();
+    }
+
+    /**
+     * Record a solve (called from updateProgress)
+     */
+    public synchronized void recordSolve(String userId, LocalDateTime solvedAt) {
+        LocalDate day = (solvedAt != null ? solvedAt : LocalDateTime.now()).toLocalDate();
+        if (!day.isBefore(firstDay())) {
+            days.computeIfAbsent(day, d -> new HyperLogLog()).add(userId);
+        }
+    }
+
+    /**
+     * Users who solved at least one question, ever (exact), or null while the
+     * leaderboard is still loading
+     */
+    public Long activeUsers() {
+        return leaderboardService.isReady() ? (long) leaderboardService.rankedUsers() : null;
+    }
+
+    /**
+     * Estimated distinct users who solved something in the last {@code windowDays}
+     * calendar days, today included
+     */
+    public synchronized long activeSolvers(int windowDays) {
+        prune();
+        LocalDate from = LocalDate.now().minusDays(Math.min(windowDays, WINDOW_DAYS) - 1L);
+        HyperLogLog union = new HyperLogLog();
+        days.tailMap(from, true).values().forEach(union::merge);
+        return union.estimate();
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Build day sketches from the solves inside the window (raw documents,
+     * user ref and solvedAt only) and merge them into the live ones
+     */
+    private void seed() {
+        long start = System.currentTimeMillis();
+        try {
+            Date from = Date.from(firstDay().atStartOfDay(ZoneId.systemDefault()).toInstant());
+            Query query = new Query(Criteria.where("solved").is(true).and("solvedAt").gte(from));
+            query.fields().include("user").include("solvedAt");
+
+            Map<LocalDate, HyperLogLog> seeded = new HashMap<>();
+            long solves = 0;
+            for (Document doc : mongoTemplate.find(query, Document.class, "userprogress")) {
+                Date solvedAt = doc.getDate("solvedAt");
+                if (doc.get("user") instanceof DBRef ref && solvedAt != null) {
+                    LocalDate day = LocalDate.ofInstant(solvedAt.toInstant(), ZoneId.systemDefault());
+                    seeded.computeIfAbsent(day, d -> new HyperLogLog()).add(ref.getId().toString());
+                    solves++;
+                }
+            }
+
+            synchronized (this) {
+                seeded.forEach((day, sketch) -> days.computeIfAbsent(day, d -> new HyperLogLog()).merge(sketch));
+                prune();
+            }
+            logger.info("Active user sketches seeded: {} solves over {} days in {} ms",
+                    solves, seeded.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.warn("Active user sketch seed failed: {}", e.getMessage());
+        }
+    }
+
+    private void prune() {
+        days.headMap(firstDay(), false).clear();
+    }
+
+    private static LocalDate firstDay() {
+        return LocalDate.now().minusDays(WINDOW_DAYS - 1L);
+    }
+}
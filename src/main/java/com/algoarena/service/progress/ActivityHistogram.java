@@ -0,0 +1,132 @@
+// src/main/java/com/algoarena/service/progress/ActivityHistogram.java
+package com.algoarena.service.progress;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Immutable per-day solve counts for one user over a fixed span of days.
+ *
+ * Counts sit in an int array indexed by day (index 0 = firstDay). Prefix sums
+ * and the run of active days ending at each index are computed once, so
+ * "solved in the last N days" and the current streak are O(1); the longest
+ * streak is precomputed and the heatmap is a copy of the array.
+ *
+ * Days are absolute (not relative to when the histogram was built), so a
+ * cached histogram stays correct across midnight.
+ */
+public final class ActivityHistogram {
+
+    private final LocalDate firstDay;
+    private final int[] counts;
+    private final int[] prefix;
+    private final int[] runs;
+    private final int longestStreak;
+    private final int activeDays;
+
+    private ActivityHistogram(LocalDate firstDay, int[] counts) {
+        this.firstDay = firstDay;
+        this.counts = counts;
+        this.prefix = new int[counts.length + 1];
+        this.runs = new int[counts.length];
+
+        int longest = 0;
+        int active = 0;
+        for (int i = 0; i < counts.length; i++) {
+            prefix[i + 1] = prefix[i] + counts[i];
+            if (counts[i] > 0) {
+                runs[i] = (i > 0 ? runs[i - 1] : 0) + 1;
+                longest = Math.max(longest, runs[i]);
+                active++;
+            }
+        }
+        this.longestStreak = longest;
+        this.activeDays = active;
+    }
+
+    /**
+     * @param dailySolves ISO date ("2025-03-14") -> solves that day; days outside
+     *                    [lastDay - days + 1, lastDay] and non-positive counts are ignored
+     */
+    public static ActivityHistogram of(Map<String, Integer> dailySolves, LocalDate lastDay, int days) {
+        LocalDate firstDay = lastDay.minusDays(days - 1L);
+        int[] counts = new int[days];
+        dailySolves.forEach((date, count) -> {
+            int index = (int) (LocalDate.parse(date).toEpochDay() - firstDay.toEpochDay());
+            if (index >= 0 && index < days && count != null && count > 0) {
+                counts[index] += count;
+            }
+        });
+        return new ActivityHistogram(firstDay, counts);
+    }
+
+    public LocalDate firstDay() {
+        return firstDay;
+    }
+
+    public LocalDate lastDay() {
+        return firstDay.plusDays(counts.length - 1L);
+    }
+
+    /**
+     * Solves in the {@code days} days ending with {@code today} (today included)
+     */
+    public int solvedInLast(LocalDate today, int days) {
+        int end = Math.min(index(today) + 1, counts.length);
+        int start = Math.max(index(today) + 1 - days, 0);
+        return end > start ? prefix[end] - prefix[start] : 0;
+    }
+
+    /**
+     * Consecutive active days ending today, or ending yesterday if nothing has
+     * been solved yet today (the streak is still alive)
+     */
+    public int currentStreak(LocalDate today) {
+        int index = index(today);
+        if (index >= 0 && index < counts.length && counts[index] > 0) {
+            return runs[index];
+        }
+        return runAt(index - 1);
+    }
+
+    /**
+     * Longest run of active days within the histogram's span
+     */
+    public int longestStreak() {
+        return longestStreak;
+    }
+
+    public int activeDays() {
+        return activeDays;
+    }
+
+    public int totalSolves() {
+        return prefix[counts.length];
+    }
+
+    /**
+     * Solves per day, oldest first, the last {@code days} days ending with
+     * {@code today} (days outside the span are 0)
+     */
+    public int[] heatmap(LocalDate today, int days) {
+        int[] heatmap = new int[days];
+        int end = index(today);
+        for (int i = 0; i < days; i++) {
+            int index = end - days + 1 + i;
+            if (index >= 0 && index < counts.length) {
+                heatmap[i] = counts[index];
+            }
+        }
+        return heatmap;
+    }
+
+    // ==================== HELPERS ====================
+
+    private int index(LocalDate day) {
+        return (int) (day.toEpochDay() - firstDay.toEpochDay());
+    }
+
+    private int runAt(int index) {
+        return index >= 0 && index < runs.length ? runs[index] : 0;
+    }
+}
@@ -0,0 +1,145 @@
+// src/main/java/com/algoarena/service/progress/SolvedBitmap.java
+package com.algoarena.service.progress;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of solved question ordinals in one of two containers, picked
+ * by size like a roaring container:
+ * - sparse: sorted int array (4 bytes per solved question)
+ * - dense: 64-bit words (1 bit per catalog ordinal up to the highest solved)
+ *
+ * Counting against category/level masks is a word-wise AND + popcount for
+ * dense sets and a bit probe per member for sparse ones. Updates return a new
+ * bitmap, so a cached instance can be read without locking.
+ */
+public final class SolvedBitmap {
+
+    public static final SolvedBitmap EMPTY = new SolvedBitmap(new int[0], null, 0);
+
+    // Exactly one of members / words is set
+    private final int[] members;
+    private final long[] words;
+    private final int cardinality;
+
+    private SolvedBitmap(int[] members, long[] words, int cardinality) {
+        this.members = members;
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Bitmap of the given ordinals (any order, duplicates ignored)
+     */
+    public static SolvedBitmap of(int[] ordinals) {
+        int[] sorted = Arrays.stream(ordinals).filter(ordinal -> ordinal >= 0).sorted().distinct().toArray();
+        if (sorted.length == 0) {
+            return EMPTY;
+        }
+
+        int wordCount = (sorted[sorted.length - 1] >>> 6) + 1;
+        // Array costs 4 bytes per member, words 8 bytes each - keep the smaller
+        if ((long) sorted.length * 4 <= (long) wordCount * 8) {
+            return new SolvedBitmap(sorted, null, sorted.length);
+        }
+        long[] words = new long[wordCount];
+        for (int ordinal : sorted) {
+            words[ordinal >>> 6] |= 1L << ordinal;
+        }
+        return new SolvedBitmap(null, words, sorted.length);
+    }
+
+    public boolean contains(int ordinal) {
+        if (ordinal < 0) {
+            return false;
+        }
+        if (words != null) {
+            int word = ordinal >>> 6;
+            return word < words.length && (words[word] & (1L << ordinal)) != 0;
+        }
+        return Arrays.binarySearch(members, ordinal) >= 0;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isDense() {
+        return words != null;
+    }
+
+    public SolvedBitmap with(int ordinal) {
+        return contains(ordinal) || ordinal < 0 ? this : of(append(toArray(), ordinal));
+    }
+
+    public SolvedBitmap without(int ordinal) {
+        if (!contains(ordinal)) {
+            return this;
+        }
+        return of(Arrays.stream(toArray()).filter(member -> member != ordinal).toArray());
+    }
+
+    /**
+     * Members that are also set in the mask
+     */
+    public int countIn(long[] mask) {
+        return countIn(mask, null);
+    }
+
+    /**
+     * Members set in both masks (e.g. category and level); a null second mask
+     * means "no restriction"
+     */
+    public int countIn(long[] mask, long[] other) {
+        int count = 0;
+        if (words != null) {
+            int length = Math.min(words.length, mask.length);
+            for (int i = 0; i < length; i++) {
+                long bits = words[i] & mask[i];
+                if (other != null) {
+                    bits &= i < other.length ? other[i] : 0L;
+                }
+                count += Long.bitCount(bits);
+            }
+            return count;
+        }
+        for (int ordinal : members) {
+            if (isSet(mask, ordinal) && (other == null || isSet(other, ordinal))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sorted member ordinals
+     */
+    public int[] toArray() {
+        if (words == null) {
+            return members.clone();
+        }
+        int[] ordinals = new int[cardinality];
+        int index = 0;
+        for (int word = 0; word < words.length; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                ordinals[index++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return ordinals;
+    }
+
+    // ==================== HELPERS ====================
+
+    static boolean isSet(long[] mask, int ordinal) {
+        int word = ordinal >>> 6;
+        return word < mask.length && (mask[word] & (1L << ordinal)) != 0;
+    }
+
+    private static int[] append(int[] ordinals, int ordinal) {
+        int[] appended = Arrays.copyOf(ordinals, ordinals.length + 1);
+        appended[ordinals.length] = ordinal;
+        return appended;
+    }
+}
@@ -0,0 +1,165 @@
+// src/main/java/com/algoarena/service/progress/SolvedSetService.java
+package com.algoarena.service.progress;
+
+import com.algoarena.model.QuestionLevel;
+import com.algoarena.model.QuestionMeta;
+import com.algoarena.service.cache.CacheInvalidationService;
+import com.algoarena.service.catalog.CatalogSnapshot;
+import com.algoarena.service.catalog.CatalogSnapshotService;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-user solved sets as {@link SolvedBitmap}s over dense question ordinals.
+ *
+ * - Ordinals are handed out on first sight of a question id and never reused,
+ *   so cached bitmaps stay valid across catalog changes
+ * - Category and level masks are derived from the current catalog snapshot
+ *   (rebuilt when a new snapshot is published); a deleted question simply
+ *   drops out of every mask
+ * - A user's bitmap is loaded lazily into userSolvedSet and updated in place
+ *   by UserProgressService.updateProgress instead of being evicted
+ *
+ * Only usable once the catalog snapshot is loaded ({@link #isReady()}).
+ */
+@Service
+public class SolvedSetService {
+
+    private static final long[] NONE = new long[0];
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+
+    private volatile Masks masks;
+
+    public boolean isReady() {
+        return catalogSnapshotService.isReady();
+    }
+
+    /**
+     * The user's solved questions (cached, loaded with one projection query on a miss)
+     */
+    public SolvedBitmap getSolved(String userId) {
+        return cache().get(userId, () -> load(userId));
+    }
+
+    /**
+     * Solved questions within the filters (null = any): AND of the user's bitmap
+     * with the category and level masks, then popcount
+     */
+    public int countSolved(SolvedBitmap solved, String categoryId, QuestionLevel level) {
+        Masks current = masks();
+        long[] categoryMask = categoryId != null ? current.byCategory().getOrDefault(categoryId, NONE) : current.all();
+        long[] levelMask = level != null ? current.byLevel()[level.ordinal()] : null;
+        return solved.countIn(categoryMask, levelMask);
+    }
+
+    /**
+     * Apply one progress change to the cached bitmap (copy-on-write). If the user
+     * is not cached - or is being loaded right now - the entry is dropped and
+     * reloaded on the next read.
+     */
+    public synchronized void update(String userId, String questionId, boolean solved) {
+        Cache cache = cache();
+        SolvedBitmap current = cache.get(userId, SolvedBitmap.class);
+        if (current == null) {
+            cache.evict(userId);
+            return;
+        }
+        int ordinal = ordinal(questionId);
+        cache.put(userId, solved ? current.with(ordinal) : current.without(ordinal));
+    }
+
+    // ==================== HELPERS ====================
+
+    private int ordinal(String questionId) {
+        return ordinals.computeIfAbsent(questionId, id -> nextOrdinal.getAndIncrement());
+    }
+
+    /**
+     * Raw documents so the user/question DBRefs are never resolved
+     */
+    private SolvedBitmap load(String userId) {
+        Query query = new Query(Criteria.where("user.$id").is(new ObjectId(userId)).and("solved").is(true));
+        query.fields().include("question");
+
+        List<Integer> solved = new ArrayList<>();
+        for (Document doc : mongoTemplate.find(query, Document.class, "userprogress")) {
+            if (doc.get("question") instanceof DBRef ref) {
+                solved.add(ordinal(ref.getId().toString()));
+            }
+        }
+        return SolvedBitmap.of(solved.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Masks for the current snapshot, rebuilt once per published snapshot
+     */
+    private Masks masks() {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        Masks current = masks;
+        if (current != null && current.snapshot() == snapshot) {
+            return current;
+        }
+
+        BitSet all = new BitSet();
+        Map<String, BitSet> byCategory = new HashMap<>();
+        BitSet[] byLevel = new BitSet[QuestionLevel.values().length];
+        for (int i = 0; i < byLevel.length; i++) {
+            byLevel[i] = new BitSet();
+        }
+        for (QuestionMeta question : snapshot.questions()) {
+            int ordinal = ordinal(question.id());
+            all.set(ordinal);
+            if (question.categoryId() != null) {
+                byCategory.computeIfAbsent(question.categoryId(), c -> new BitSet()).set(ordinal);
+            }
+            if (question.level() != null) {
+                byLevel[question.level().ordinal()].set(ordinal);
+            }
+        }
+
+        Map<String, long[]> categoryMasks = new HashMap<>();
+        byCategory.forEach((categoryId, bits) -> categoryMasks.put(categoryId, bits.toLongArray()));
+        long[][] levelMasks = new long[byLevel.length][];
+        for (int i = 0; i < byLevel.length; i++) {
+            levelMasks[i] = byLevel[i].toLongArray();
+        }
+
+        current = new Masks(snapshot, all.toLongArray(), categoryMasks, levelMasks);
+        masks = current;
+        return current;
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheInvalidationService.USER_SOLVED_SET);
+    }
+
+    private record Masks(CatalogSnapshot snapshot, long[] all, Map<String, long[]> byCategory, long[][] byLevel) {
+    }
+}
@@ -0,0 +1,465 @@
+// src/main/java/com/algoarena/service/progress/UserStatsService.java
+package com.algoarena.service.progress;
+
+import com.algoarena.model.QuestionLevel;
+import com.algoarena.model.QuestionMeta;
+import com.algoarena.model.UserStats;
+import com.algoarena.repository.QuestionRepository;
+import com.algoarena.repository.UserStatsRepository;
+import com.algoarena.service.cache.CacheInvalidationService;
+import com.algoarena.service.catalog.CatalogSnapshot;
+import com.algoarena.service.catalog.CatalogSnapshotService;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Maintains the per-user {@link UserStats} documents.
+ *
+ * - A solve/unsolve is applied with one atomic update ($inc on the totals,
+ *   $push with $sort/$slice or $pull on the recent solves ring); a $pull that
+ *   leaves the ring short is followed by a refill from userprogress
+ * - Catalog changes adjust only the users who solved the affected questions:
+ *   deleted solves are taken back (solvesRemoved), and a question moving to
+ *   another category or level moves its solves between buckets
+ *   (solvedQuestionMoved, under every user lock together with the question write)
+ * - Updates never upsert: a user without a document gets it built in full from
+ *   userprogress on the next read, so a partial document is never created
+ * - Builds and updates for one user are serialized (striped locks), so a build
+ *   cannot overwrite an increment applied while it was reading; progress writes
+ *   run under the same lock (withUserLock) so a build never counts a solve that
+ *   is then incremented again. The locks are per instance - across instances
+ *   only the progress transition itself is atomic
+ * - Daily solve counts feed an {@link ActivityHistogram} per user, cached in
+ *   userActivity (evicted with the user's other per-user caches)
+ */
+@Service
+public class UserStatsService {
+
+    public static final int RECENT_SOLVES = 20;
+
+    // Days of daily solve counts kept (one year heatmap)
+    public static final int ACTIVITY_DAYS = 365;
+
+    private static final int LOCK_STRIPES = 64;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * The user's stats - one read by id, built from userprogress the first time
+     */
+    public UserStats getStats(String userId) {
+        UserStats stats = userStatsRepository.findById(userId).orElse(null);
+        if (stats != null) {
+            return stats;
+        }
+        synchronized (lock(userId)) {
+            stats = userStatsRepository.findById(userId).orElse(null);
+            return stats != null ? stats : rebuild(userId);
+        }
+    }
+
+    /**
+     * The user's daily solve counts over the last ACTIVITY_DAYS days (cached;
+     * built from the stats document on a miss, pruning days that aged out)
+     */
+    public ActivityHistogram getActivity(String userId) {
+        Cache cache = cacheManager.getCache(CacheInvalidationService.USER_ACTIVITY);
+        return cache != null ? cache.get(userId, () -> loadActivity(userId)) : loadActivity(userId);
+    }
+
+    /**
+     * Run a userprogress write and its recordChange under the user's lock
+     */
+    public <T> T withUserLock(String userId, Supplier<T> write) {
+        synchronized (lock(userId)) {
+            return write.get();
+        }
+    }
+
+    /**
+     * Apply one solved-state transition (no-op if the state did not change)
+     *
+     * @param solvedAt time of the solve (of the removed solve, on unsolve)
+     */
+    public void recordChange(String userId, String questionId, String categoryId, QuestionLevel level,
+                             boolean wasSolved, boolean solved, LocalDateTime solvedAt) {
+        if (wasSolved == solved) {
+            return;
+        }
+
+        int delta = solved ? 1 : -1;
+        Update update = new Update()
+                .inc("totalSolved", delta)
+                .set("updatedAt", LocalDateTime.now());
+        if (level != null) {
+            update.inc("solvedByLevel." + level.getValue(), delta);
+        }
+        if (categoryId != null) {
+            update.inc("solvedByCategory." + categoryId, delta);
+        }
+        if (solvedAt != null && !solvedAt.toLocalDate().isBefore(firstActivityDay())) {
+            update.inc("dailySolves." + solvedAt.toLocalDate(), delta);
+        }
+        if (solved) {
+            update.max("lastSolvedAt", solvedAt);
+            update.push("recentSolves")
+                    .sort(Sort.by(Sort.Direction.DESC, "solvedAt"))
+                    .slice(RECENT_SOLVES)
+                    .each(new UserStats.RecentSolve(questionId, categoryId, level, solvedAt));
+        } else {
+            update.pull("recentSolves", new Document("questionId", questionId));
+        }
+
+        synchronized (lock(userId)) {
+            // No upsert - a missing document is built in full on the next read
+            if (solved) {
+                mongoTemplate.updateFirst(byId(userId), update, UserStats.class);
+            } else {
+                applyRemoval(userId, update);
+            }
+        }
+    }
+
+    /**
+     * Take back one user's solves of deleted questions: every bucket they were
+     * counted in is decremented and they leave the recent ring, in one update.
+     * Call under withUserLock, after their progress documents were removed.
+     *
+     * @param removed the removed solves, with the category and level they were counted under
+     */
+    public void solvesRemoved(String userId, List<UserStats.RecentSolve> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        Map<String, Integer> byLevel = new HashMap<>();
+        Map<String, Integer> byCategory = new HashMap<>();
+        Map<String, Integer> byDay = new HashMap<>();
+        LocalDate firstDay = firstActivityDay();
+        for (UserStats.RecentSolve solve : removed) {
+            if (solve.getLevel() != null) {
+                byLevel.merge(solve.getLevel().getValue(), 1, Integer::sum);
+            }
+            if (solve.getCategoryId() != null) {
+                byCategory.merge(solve.getCategoryId(), 1, Integer::sum);
+            }
+            if (solve.getSolvedAt() != null && !solve.getSolvedAt().toLocalDate().isBefore(firstDay)) {
+                byDay.merge(solve.getSolvedAt().toLocalDate().toString(), 1, Integer::sum);
+            }
+        }
+
+        Update update = new Update()
+                .inc("totalSolved", -removed.size())
+                .set("updatedAt", LocalDateTime.now());
+        byLevel.forEach((level, count) -> update.inc("solvedByLevel." + level, -count));
+        byCategory.forEach((categoryId, count) -> update.inc("solvedByCategory." + categoryId, -count));
+        byDay.forEach((day, count) -> update.inc("dailySolves." + day, -count));
+        List<String> questionIds = removed.stream().map(UserStats.RecentSolve::getQuestionId).toList();
+        update.pull("recentSolves", new Document("questionId", new Document("$in", questionIds)));
+
+        synchronized (lock(userId)) {
+            applyRemoval(userId, update);
+        }
+    }
+
+    /**
+     * Run a write under every user's lock, so no stats build or progress write
+     * on this instance interleaves with it (e.g. a question write together with
+     * solvedQuestionMoved)
+     */
+    public <T> T withAllUserLocks(Supplier<T> write) {
+        return withLocksFrom(0, write);
+    }
+
+    /**
+     * A solved question moved to another category and/or level: move its solves
+     * between the buckets of every user who solved it, including the entry in
+     * their recent ring (one multi-document update). Call under withAllUserLocks
+     * together with the question write, so a stats build sees either the old
+     * question and old buckets or the new ones.
+     */
+    public void solvedQuestionMoved(String questionId, String oldCategoryId, QuestionLevel oldLevel,
+                                    String newCategoryId, QuestionLevel newLevel) {
+        boolean categoryMoved = !Objects.equals(oldCategoryId, newCategoryId);
+        boolean levelMoved = oldLevel != newLevel;
+        if (!categoryMoved && !levelMoved) {
+            return;
+        }
+
+        Query solversQuery = new Query(Criteria.where("question.$id").is(questionIdValue(questionId)).and("solved").is(true));
+        solversQuery.fields().include("user");
+        List<String> userIds = new ArrayList<>();
+        for (Document doc : mongoTemplate.find(solversQuery, Document.class, "userprogress")) {
+            if (doc.get("user") instanceof DBRef ref) {
+                userIds.add(ref.getId().toString());
+            }
+        }
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Update update = new Update().set("updatedAt", LocalDateTime.now());
+        if (categoryMoved) {
+            moveBucket(update, "solvedByCategory.", oldCategoryId, newCategoryId);
+            update.set("recentSolves.$[solve].categoryId", newCategoryId);
+        }
+        if (levelMoved) {
+            moveBucket(update, "solvedByLevel.",
+                    oldLevel != null ? oldLevel.getValue() : null, newLevel != null ? newLevel.getValue() : null);
+            update.set("recentSolves.$[solve].level", newLevel);
+        }
+        update.filterArray(Criteria.where("solve.questionId").is(questionId));
+
+        // Users without a document get it built from the moved question later
+        mongoTemplate.updateMulti(new Query(Criteria.where("_id").in(userIds)), update, UserStats.class);
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Apply an update that pulls from the recent ring. If that left the ring
+     * shorter than the user's solves allow, refill it from userprogress;
+     * otherwise keep lastSolvedAt on the newest remaining solve. Call under the
+     * user's lock.
+     */
+    private void applyRemoval(String userId, Update update) {
+        Query query = byId(userId);
+        query.fields().include("totalSolved").include("lastSolvedAt").include("recentSolves");
+        UserStats updated = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), UserStats.class);
+        if (updated == null) {
+            return; // No document - built in full on the next read
+        }
+
+        List<UserStats.RecentSolve> ring = updated.getRecentSolves();
+        if (ring.size() < Math.min(RECENT_SOLVES, updated.getTotalSolved())) {
+            refillRecentSolves(userId);
+            return;
+        }
+        LocalDateTime newest = ring.isEmpty() ? null : ring.get(0).getSolvedAt();
+        if (!Objects.equals(newest, updated.getLastSolvedAt())) {
+            mongoTemplate.updateFirst(byId(userId), new Update().set("lastSolvedAt", newest), UserStats.class);
+        }
+    }
+
+    /**
+     * Rebuild the recent ring (and lastSolvedAt) from the user's newest solves
+     */
+    private void refillRecentSolves(String userId) {
+        Query query = solvedProgress(userId)
+                .with(Sort.by(Sort.Direction.DESC, "solvedAt"))
+                .limit(RECENT_SOLVES);
+        List<UserStats.RecentSolve> recent = toSolves(mongoTemplate.find(query, Document.class, "userprogress"));
+        resolveCategories(recent);
+
+        mongoTemplate.updateFirst(byId(userId), new Update()
+                .set("recentSolves", recent)
+                .set("lastSolvedAt", recent.isEmpty() ? null : recent.get(0).getSolvedAt()), UserStats.class);
+    }
+
+    private static void moveBucket(Update update, String prefix, String from, String to) {
+        if (from != null) {
+            update.inc(prefix + from, -1);
+        }
+        if (to != null) {
+            update.inc(prefix + to, 1);
+        }
+    }
+
+    private <T> T withLocksFrom(int stripe, Supplier<T> write) {
+        if (stripe == LOCK_STRIPES) {
+            return write.get();
+        }
+        synchronized (locks[stripe]) {
+            return withLocksFrom(stripe + 1, write);
+        }
+    }
+
+    private static Query byId(String userId) {
+        return new Query(Criteria.where("_id").is(userId));
+    }
+
+    /**
+     * The user's solved progress (raw documents, no DBRef resolution)
+     */
+    private static Query solvedProgress(String userId) {
+        Query query = new Query(Criteria.where("user.$id").is(new ObjectId(userId)).and("solved").is(true));
+        query.fields().include("question").include("level").include("solvedAt");
+        return query;
+    }
+
+    // Question DBRefs hold an ObjectId (or the raw id for non-ObjectId ids)
+    private static Object questionIdValue(String questionId) {
+        return ObjectId.isValid(questionId) ? new ObjectId(questionId) : questionId;
+    }
+
+    /**
+     * Solves from raw progress documents (category still unresolved)
+     */
+    private static List<UserStats.RecentSolve> toSolves(List<Document> docs) {
+        List<UserStats.RecentSolve> solves = new ArrayList<>();
+        for (Document doc : docs) {
+            if (doc.get("question") instanceof DBRef ref) {
+                Date solvedAt = doc.getDate("solvedAt");
+                solves.add(new UserStats.RecentSolve(
+                        ref.getId().toString(),
+                        null,
+                        parseLevel(doc.getString("level")),
+                        solvedAt != null ? LocalDateTime.ofInstant(solvedAt.toInstant(), ZoneId.systemDefault()) : null));
+            }
+        }
+        return solves;
+    }
+
+    private ActivityHistogram loadActivity(String userId) {
+        UserStats stats = getStats(userId);
+        LocalDate today = LocalDate.now();
+        LocalDate firstDay = firstActivityDay();
+
+        // Drop days that left the window so the map stays bounded
+        List<String> expired = stats.getDailySolves().keySet().stream()
+                .filter(day -> LocalDate.parse(day).isBefore(firstDay))
+                .toList();
+        if (!expired.isEmpty()) {
+            Update update = new Update();
+            expired.forEach(day -> update.unset("dailySolves." + day));
+            synchronized (lock(userId)) {
+                mongoTemplate.updateFirst(byId(userId), update, UserStats.class);
+            }
+        }
+
+        return ActivityHistogram.of(stats.getDailySolves(), today, ACTIVITY_DAYS);
+    }
+
+    private static LocalDate firstActivityDay() {
+        return LocalDate.now().minusDays(ACTIVITY_DAYS - 1L);
+    }
+
+    /**
+     * Full build from the user's solved progress (raw documents, no DBRef resolution)
+     */
+    private UserStats rebuild(String userId) {
+        List<UserStats.RecentSolve> solves = toSolves(
+                mongoTemplate.find(solvedProgress(userId), Document.class, "userprogress"));
+        resolveCategories(solves);
+
+        UserStats stats = new UserStats(userId);
+        Map<String, Long> byLevel = new HashMap<>();
+        Map<String, Long> byCategory = new HashMap<>();
+        for (UserStats.RecentSolve solve : solves) {
+            if (solve.getLevel() != null) {
+                byLevel.merge(solve.getLevel().getValue(), 1L, Long::sum);
+            }
+            if (solve.getCategoryId() != null) {
+                byCategory.merge(solve.getCategoryId(), 1L, Long::sum);
+            }
+        }
+        Map<String, Integer> dailySolves = new HashMap<>();
+        LocalDate firstDay = firstActivityDay();
+        for (UserStats.RecentSolve solve : solves) {
+            if (solve.getSolvedAt() != null && !solve.getSolvedAt().toLocalDate().isBefore(firstDay)) {
+                dailySolves.merge(solve.getSolvedAt().toLocalDate().toString(), 1, Integer::sum);
+            }
+        }
+        stats.setTotalSolved(solves.size());
+        stats.setSolvedByLevel(byLevel);
+        stats.setSolvedByCategory(byCategory);
+        stats.setDailySolves(dailySolves);
+
+        solves.sort(Comparator.comparing(UserStats.RecentSolve::getSolvedAt, Comparator.nullsLast(Comparator.reverseOrder())));
+        stats.setLastSolvedAt(solves.isEmpty() ? null : solves.get(0).getSolvedAt());
+        stats.setRecentSolves(new ArrayList<>(solves.subList(0, Math.min(RECENT_SOLVES, solves.size()))));
+
+        return userStatsRepository.save(stats);
+    }
+
+    /**
+     * Category (and missing level) of each solve from the catalog snapshot, or
+     * one projection query until it is loaded
+     */
+    private void resolveCategories(List<UserStats.RecentSolve> solves) {
+        Map<String, QuestionMeta> metas = new HashMap<>();
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        if (snapshot != null) {
+            for (UserStats.RecentSolve solve : solves) {
+                QuestionMeta meta = snapshot.find(solve.getQuestionId());
+                if (meta != null) {
+                    metas.put(meta.id(), meta);
+                }
+            }
+        } else if (!solves.isEmpty()) {
+            questionRepository.findMetaByIds(solves.stream().map(UserStats.RecentSolve::getQuestionId).toList())
+                    .forEach(meta -> metas.put(meta.id(), meta));
+        }
+
+        for (UserStats.RecentSolve solve : solves) {
+            QuestionMeta meta = metas.get(solve.getQuestionId());
+            if (meta != null) {
+                solve.setCategoryId(meta.categoryId());
+                if (solve.getLevel() == null) {
+                    solve.setLevel(meta.level());
+                }
+            }
+        }
+    }
+
+    private Object lock(String userId) {
+        return locks[Math.floorMod(userId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static QuestionLevel parseLevel(String level) {
+        if (level == null) {
+            return null;
+        }
+        for (QuestionLevel candidate : QuestionLevel.values()) {
+            if (candidate.name().equalsIgnoreCase(level)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
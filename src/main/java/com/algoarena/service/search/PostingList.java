@@ -0,0 +1,50 @@
+// src/main/java/com/algoarena/service/search/PostingList.java
+package com.algoarena.service.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted, growable int array of question ordinals (one per indexed term/trigram).
+ * Not thread-safe - guarded by the owning index's lock.
+ */
+final class PostingList {
+
+    private int[] ordinals = new int[4];
+    private int size;
+
+    void add(int ordinal) {
+        int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size * 2);
+        }
+        System.arraycopy(ordinals, insertAt, ordinals, insertAt + 1, size - insertAt);
+        ordinals[insertAt] = ordinal;
+        size++;
+    }
+
+    boolean remove(int ordinal) {
+        int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(ordinals, index + 1, ordinals, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    int get(int index) {
+        return ordinals[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
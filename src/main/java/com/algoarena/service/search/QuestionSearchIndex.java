@@ -0,0 +1,291 @@
+// src/main/java/com/algoarena/service/search/QuestionSearchIndex.java
+package com.algoarena.service.search;
+
+import com.algoarena.model.QuestionLevel;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over question titles and statements.
+ *
+ * - Text is lowercased and split on anything that is not a letter or digit
+ * - Every question gets an int ordinal; each term maps to a sorted posting
+ *   list of ordinals, kept separately for title and statement
+ * - Queries are AND across terms, each term matching as a prefix ("bin tre"
+ *   finds "Binary Tree"), ranked by where it matched: exact title term >
+ *   title prefix > exact statement term > statement prefix, newest first on ties
+ *
+ * Updates are incremental (upsert/remove per question); reads and writes are
+ * guarded by a read-write lock so searches never see a half-applied update.
+ */
+public class QuestionSearchIndex {
+
+    private static final int TITLE_EXACT = 8;
+    private static final int TITLE_PREFIX = 5;
+    private static final int STATEMENT_EXACT = 2;
+    private static final int STATEMENT_PREFIX = 1;
+
+    // Longer tokens (hashes, inlined data) are cut to keep the term dictionary small
+    private static final int MAX_TOKEN_LENGTH = 40;
+
+    /**
+     * Indexed view of one question (only what search, filtering and ranking need)
+     */
+    public record Document(String id, String title, String statement, String categoryId,
+                           QuestionLevel level, LocalDateTime createdAt) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+    private final NavigableMap<String, PostingList> titlePostings = new TreeMap<>();
+    private final NavigableMap<String, PostingList> statementPostings = new TreeMap<>();
+
+    // ==================== UPDATES ====================
+
+    /**
+     * Replace the whole index (startup / full rebuild)
+     */
+    public void rebuild(Collection<Document> documents) {
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            entries.clear();
+            titlePostings.clear();
+            statementPostings.clear();
+            for (Document document : documents) {
+                add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add a question, or re-index it after an update (keeps its ordinal)
+     */
+    public void upsert(Document document) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(document.id());
+            if (ordinal == null) {
+                add(document);
+                return;
+            }
+            unindex(ordinal, entries.get(ordinal));
+            Entry entry = new Entry(document);
+            entries.set(ordinal, entry);
+            index(ordinal, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                unindex(ordinal, entries.get(ordinal));
+                // Ordinal is retired, not reused - posting lists stay append-only in the common case
+                entries.set(ordinal, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Ranked ids of the questions matching every query term, optionally
+     * restricted to a category and/or level (null = any)
+     */
+    public List<String> search(String query, String categoryId, QuestionLevel level) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Integer> scores = null;
+            for (String term : terms) {
+                Map<Integer, Integer> termScores = score(term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    Map<Integer, Integer> intersection = new HashMap<>();
+                    for (Map.Entry<Integer, Integer> hit : scores.entrySet()) {
+                        Integer termScore = termScores.get(hit.getKey());
+                        if (termScore != null) {
+                            intersection.put(hit.getKey(), hit.getValue() + termScore);
+                        }
+                    }
+                    scores = intersection;
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            for (Map.Entry<Integer, Integer> hit : scores.entrySet()) {
+                Entry entry = entries.get(hit.getKey());
+                if (entry != null && entry.matches(categoryId, level)) {
+                    hits.add(new Hit(hit.getKey(), hit.getValue(), entry));
+                }
+            }
+            hits.sort(Hit.RANKING);
+
+            List<String> ids = new ArrayList<>(hits.size());
+            for (Hit hit : hits) {
+                ids.add(hit.entry().id);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return titlePostings.size() + statementPostings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lowercased letter/digit tokens in order of first appearance, without duplicates
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean tokenChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(lower.substring(start, Math.min(i, start + MAX_TOKEN_LENGTH)));
+                start = -1;
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    // ==================== HELPERS ====================
+
+    private void add(Document document) {
+        int ordinal = entries.size();
+        Entry entry = new Entry(document);
+        ordinals.put(document.id(), ordinal);
+        entries.add(entry);
+        index(ordinal, entry);
+    }
+
+    private void index(int ordinal, Entry entry) {
+        for (String term : entry.titleTerms) {
+            titlePostings.computeIfAbsent(term, t -> new PostingList()).add(ordinal);
+        }
+        for (String term : entry.statementTerms) {
+            statementPostings.computeIfAbsent(term, t -> new PostingList()).add(ordinal);
+        }
+    }
+
+    private void unindex(int ordinal, Entry entry) {
+        removePostings(titlePostings, entry.titleTerms, ordinal);
+        removePostings(statementPostings, entry.statementTerms, ordinal);
+    }
+
+    private static void removePostings(Map<String, PostingList> index, List<String> terms, int ordinal) {
+        for (String term : terms) {
+            PostingList postings = index.get(term);
+            if (postings != null && postings.remove(ordinal) && postings.isEmpty()) {
+                index.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Best score per ordinal for one query term (exact and prefix matches)
+     */
+    private Map<Integer, Integer> score(String term) {
+        Map<Integer, Integer> scores = new HashMap<>();
+        collect(scores, titlePostings, term, TITLE_EXACT, TITLE_PREFIX);
+        collect(scores, statementPostings, term, STATEMENT_EXACT, STATEMENT_PREFIX);
+        return scores;
+    }
+
+    private static void collect(Map<Integer, Integer> scores, NavigableMap<String, PostingList> index,
+                                String term, int exactScore, int prefixScore) {
+        // Best match per ordinal within this field, then added to the other field's score
+        Map<Integer, Integer> fieldScores = new HashMap<>();
+        for (Map.Entry<String, PostingList> match : index.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+            int score = match.getKey().equals(term) ? exactScore : prefixScore;
+            PostingList postings = match.getValue();
+            for (int i = 0; i < postings.size(); i++) {
+                fieldScores.merge(postings.get(i), score, Math::max);
+            }
+        }
+        fieldScores.forEach((ordinal, score) -> scores.merge(ordinal, score, Integer::sum));
+    }
+
+    private static final class Entry {
+        private final String id;
+        private final String categoryId;
+        private final QuestionLevel level;
+        private final LocalDateTime createdAt;
+        private final List<String> titleTerms;
+        private final List<String> statementTerms;
+
+        private Entry(Document document) {
+            this.id = document.id();
+            this.categoryId = document.categoryId();
+            this.level = document.level();
+            this.createdAt = document.createdAt();
+            this.titleTerms = tokenize(document.title());
+            this.statementTerms = tokenize(document.statement());
+        }
+
+        private boolean matches(String categoryFilter, QuestionLevel levelFilter) {
+            return (categoryFilter == null || categoryFilter.equals(categoryId))
+                    && (levelFilter == null || levelFilter == level);
+        }
+    }
+
+    private record Hit(int ordinal, int score, Entry entry) {
+        private static final Comparator<Hit> RANKING = Comparator
+                .comparingInt(Hit::score).reversed()
+                .thenComparing(hit -> hit.entry().createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(Comparator.comparingInt(Hit::ordinal).reversed());
+    }
+}
@@ -0,0 +1,186 @@
+// src/main/java/com/algoarena/service/search/QuestionSearchService.java
+package com.algoarena.service.search;
+
+import com.algoarena.model.Question;
+import com.algoarena.model.QuestionLevel;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Question search backed by {@link QuestionSearchIndex}.
+ *
+ * The index is built in the background once the application is ready and kept
+ * current by QuestionService/CategoryService on every question write. Until the
+ * first build completes {@link #isReady()} is false and callers fall back to
+ * the MongoDB regex query.
+ *
+ * Also owns the title autocomplete snapshot and the trigram index for fuzzy
+ * search, both maintained from the same updates.
+ */
+@Service
+public class QuestionSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionSearchService.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${app.search.index.enabled:true}")
+    private boolean enabled;
+
+    private final QuestionSearchIndex index = new QuestionSearchIndex();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+
+    // Autocomplete source, guarded by this; snapshots are rebuilt from it on every change
+    private final Map<String, TitleAutocomplete.Suggestion> suggestions = new HashMap<>();
+    private volatile TitleAutocomplete autocomplete = TitleAutocomplete.EMPTY;
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            logger.info("Question search index disabled");
+            return;
+        }
+
+        Thread buildThread = new Thread(this::rebuild, "search-index");
+        buildThread.setDaemon(true);
+        buildThread.start();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Ranked ids of matching questions (see QuestionSearchIndex for the query syntax)
+     */
+    public List<String> search(String query, String categoryId, QuestionLevel level) {
+        return index.search(query, categoryId, level);
+    }
+
+    /**
+     * Typo-tolerant title search, closest first (see TrigramIndex)
+     */
+    public List<String> fuzzySearch(String query, int limit) {
+        return trigramIndex.search(query, limit);
+    }
+
+    /**
+     * Top matches for a typeahead prefix (see TitleAutocomplete)
+     */
+    public List<TitleAutocomplete.Suggestion> autocomplete(String prefix, String categoryId, int limit) {
+        return autocomplete.complete(prefix, categoryId, limit);
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    /**
+     * Reload the whole index from the questions collection. Synchronized with the
+     * incremental updates so a write during the reload is never lost.
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            Query query = new Query();
+            query.fields().include("title").include("statement").include("category")
+                    .include("level").include("createdAt");
+
+            List<QuestionSearchIndex.Document> documents = new ArrayList<>();
+            // Raw documents so the category DBRefs are never resolved
+            for (Document doc : mongoTemplate.find(query, Document.class, "questions")) {
+                documents.add(toIndexDocument(doc));
+            }
+
+            index.rebuild(documents);
+            suggestions.clear();
+            documents.forEach(document -> suggestions.put(document.id(), toSuggestion(document)));
+            autocomplete = TitleAutocomplete.of(suggestions.values());
+
+            Map<String, String> titles = new HashMap<>();
+            documents.forEach(document -> titles.put(document.id(), document.title()));
+            trigramIndex.rebuild(titles);
+            ready = true;
+            logger.info("Question search index built: {} questions, {} terms in {} ms",
+                    index.size(), index.termCount(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.warn("Question search index build failed, using database search: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void index(Question question) {
+        QuestionSearchIndex.Document document = new QuestionSearchIndex.Document(
+                question.getId(),
+                question.getTitle(),
+                question.getStatement(),
+                question.getCategory() != null ? question.getCategory().getId() : null,
+                question.getLevel(),
+                question.getCreatedAt());
+        index.upsert(document);
+        trigramIndex.upsert(document.id(), document.title());
+        suggestions.put(document.id(), toSuggestion(document));
+        autocomplete = TitleAutocomplete.of(suggestions.values());
+    }
+
+    public synchronized void remove(String questionId) {
+        removeAll(List.of(questionId));
+    }
+
+    public synchronized void removeAll(Collection<String> questionIds) {
+        for (String questionId : questionIds) {
+            index.remove(questionId);
+            trigramIndex.remove(questionId);
+            suggestions.remove(questionId);
+        }
+        autocomplete = TitleAutocomplete.of(suggestions.values());
+    }
+
+    // ==================== HELPERS ====================
+
+    private static TitleAutocomplete.Suggestion toSuggestion(QuestionSearchIndex.Document document) {
+        return new TitleAutocomplete.Suggestion(document.id(), document.title(), document.level(), document.categoryId());
+    }
+
+    private static QuestionSearchIndex.Document toIndexDocument(Document doc) {
+        Object category = doc.get("category");
+        Date createdAt = doc.getDate("createdAt");
+        return new QuestionSearchIndex.Document(
+                doc.get("_id").toString(),
+                doc.getString("title"),
+                doc.getString("statement"),
+                category instanceof DBRef ref ? ref.getId().toString() : null,
+                parseLevel(doc.getString("level")),
+                createdAt != null ? LocalDateTime.ofInstant(createdAt.toInstant(), ZoneId.systemDefault()) : null);
+    }
+
+    private static QuestionLevel parseLevel(String level) {
+        if (level == null) {
+            return null;
+        }
+        for (QuestionLevel candidate : QuestionLevel.values()) {
+            if (candidate.name().equalsIgnoreCase(level)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,154 @@
+// src/main/java/com/algoarena/service/search/TitleAutocomplete.java
+package com.algoarena.service.search;
+
+import com.algoarena.model.QuestionLevel;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable prefix lookup over normalized question titles.
+ *
+ * Two sorted key arrays searched with binary search:
+ * - whole titles ("binary tree inorder traversal")
+ * - title suffixes starting at each later word ("tree inorder traversal", ...)
+ * A prefix query returns title-start matches first, then word-start matches,
+ * each alphabetically, stopping as soon as the limit is reached. Snapshots are
+ * rebuilt on catalog changes (cheap - titles only) and swapped atomically.
+ */
+public final class TitleAutocomplete {
+
+    public static final TitleAutocomplete EMPTY = of(List.of());
+
+    /**
+     * One suggestable question
+     */
+    public record Suggestion(String id, String title, QuestionLevel level, String categoryId) {
+    }
+
+    private final Suggestion[] suggestions;
+    private final String[] titleKeys;
+    private final int[] titleRefs;
+    private final String[] wordKeys;
+    private final int[] wordRefs;
+
+    private TitleAutocomplete(Suggestion[] suggestions, String[] titleKeys, int[] titleRefs,
+                              String[] wordKeys, int[] wordRefs) {
+        this.suggestions = suggestions;
+        this.titleKeys = titleKeys;
+        this.titleRefs = titleRefs;
+        this.wordKeys = wordKeys;
+        this.wordRefs = wordRefs;
+    }
+
+    public static TitleAutocomplete of(Collection<Suggestion> source) {
+        Suggestion[] suggestions = source.stream()
+                .filter(suggestion -> suggestion.title() != null)
+                .toArray(Suggestion[]::new);
+
+        List<Key> titles = new ArrayList<>(suggestions.length);
+        List<Key> words = new ArrayList<>();
+        for (int ref = 0; ref < suggestions.length; ref++) {
+            String normalized = normalize(suggestions[ref].title());
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            titles.add(new Key(normalized, ref));
+            for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+                words.add(new Key(normalized.substring(i + 1), ref));
+            }
+        }
+        titles.sort(Key.ORDER);
+        words.sort(Key.ORDER);
+
+        return new TitleAutocomplete(suggestions,
+                titles.stream().map(Key::text).toArray(String[]::new),
+                titles.stream().mapToInt(Key::ref).toArray(),
+                words.stream().map(Key::text).toArray(String[]::new),
+                words.stream().mapToInt(Key::ref).toArray());
+    }
+
+    /**
+     * Up to {@code limit} questions whose title, or a word of it, starts with the prefix
+     *
+     * @param categoryId restrict to one category (null = all)
+     */
+    public List<Suggestion> complete(String prefix, String categoryId, int limit) {
+        String normalized = normalize(prefix);
+        List<Suggestion> results = new ArrayList<>(Math.clamp(limit, 0, 16));
+        if (normalized.isEmpty() || limit <= 0) {
+            return results;
+        }
+
+        BitSet seen = new BitSet(suggestions.length);
+        collect(titleKeys, titleRefs, normalized, categoryId, limit, seen, results);
+        collect(wordKeys, wordRefs, normalized, categoryId, limit, seen, results);
+        return results;
+    }
+
+    public int size() {
+        return suggestions.length;
+    }
+
+    /**
+     * Lowercase, letters/digits only, words separated by single spaces
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    // ==================== HELPERS ====================
+
+    private void collect(String[] keys, int[] refs, String prefix, String categoryId, int limit,
+                         BitSet seen, List<Suggestion> results) {
+        for (int index = lowerBound(keys, prefix); index < keys.length && results.size() < limit && keys[index].startsWith(prefix); index++) {
+            int ref = refs[index];
+            Suggestion suggestion = suggestions[ref];
+            if (!seen.get(ref) && (categoryId == null || categoryId.equals(suggestion.categoryId()))) {
+                seen.set(ref);
+                results.add(suggestion);
+            }
+        }
+    }
+
+    /**
+     * First index whose key is >= prefix (keys may repeat, so not Arrays.binarySearch)
+     */
+    private static int lowerBound(String[] keys, String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record Key(String text, int ref) {
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::text).thenComparingInt(Key::ref);
+    }
+}
@@ -0,0 +1,273 @@
+// src/main/java/com/algoarena/service/search/TrigramIndex.java
+package com.algoarena.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typo-tolerant title search: character trigram index + edit-distance re-ranking.
+ *
+ * - Every title word is padded (" dijkstra ") and split into trigrams; each
+ *   trigram maps to a posting list of question ordinals
+ * - A query collects candidates sharing enough trigrams with it, keeps the best
+ *   MAX_CANDIDATES by shared count (bounds the work on large catalogs), then
+ *   requires every query word to be within a few edits of some title word
+ *   (or of its prefix, for words still being typed)
+ * - Results are ranked by total edit distance, then by shared trigrams
+ *
+ * "binery search" finds "Binary Search", "dijkstr" finds "Dijkstra's Algorithm".
+ */
+public class TrigramIndex {
+
+    // Candidates re-ranked with edit distance per query
+    private static final int MAX_CANDIDATES = 200;
+
+    // Share of the query's trigrams a title must contain to be a candidate
+    private static final double MIN_SHARED_RATIO = 0.3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    // ==================== UPDATES ====================
+
+    /**
+     * Replace the whole index with the given id -> title pairs
+     */
+    public void rebuild(Map<String, String> titles) {
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            entries.clear();
+            postings.clear();
+            titles.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(String id, String title) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal == null) {
+                add(id, title);
+                return;
+            }
+            unindex(ordinal, entries.get(ordinal));
+            Entry entry = new Entry(id, title);
+            entries.set(ordinal, entry);
+            index(ordinal, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                unindex(ordinal, entries.get(ordinal));
+                entries.set(ordinal, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Ids of the closest titles, best first, at most {@code limit}
+     */
+    public List<String> search(String query, int limit) {
+        List<String> queryWords = QuestionSearchIndex.tokenize(query);
+        if (queryWords.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<String> queryGrams = trigrams(queryWords);
+        int minShared = Math.max(1, (int) Math.ceil(queryGrams.size() * MIN_SHARED_RATIO));
+
+        lock.readLock().lock();
+        try {
+            // Count shared trigrams per ordinal
+            int[] shared = new int[entries.size()];
+            for (String gram : queryGrams) {
+                PostingList list = postings.get(gram);
+                if (list != null) {
+                    for (int i = 0; i < list.size(); i++) {
+                        shared[list.get(i)]++;
+                    }
+                }
+            }
+
+            List<Candidate> candidates = new ArrayList<>();
+            for (int ordinal = 0; ordinal < shared.length; ordinal++) {
+                if (shared[ordinal] >= minShared && entries.get(ordinal) != null) {
+                    candidates.add(new Candidate(ordinal, shared[ordinal], 0));
+                }
+            }
+            if (candidates.size() > MAX_CANDIDATES) {
+                candidates.sort(Comparator.comparingInt(Candidate::shared).reversed());
+                candidates = candidates.subList(0, MAX_CANDIDATES);
+            }
+
+            // Re-rank by edit distance; drop candidates with a word too far from the title
+            List<Candidate> matches = new ArrayList<>();
+            for (Candidate candidate : candidates) {
+                int distance = distance(queryWords, entries.get(candidate.ordinal()).words);
+                if (distance >= 0) {
+                    matches.add(new Candidate(candidate.ordinal(), candidate.shared(), distance));
+                }
+            }
+            matches.sort(Candidate.RANKING);
+
+            List<String> ids = new ArrayList<>(Math.min(limit, matches.size()));
+            for (int i = 0; i < matches.size() && i < limit; i++) {
+                ids.add(entries.get(matches.get(i).ordinal()).id);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Edit distance with an upper bound: returns max + 1 as soon as the distance
+     * is known to exceed {@code max}
+     */
+    static int boundedLevenshtein(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    // ==================== HELPERS ====================
+
+    private void add(String id, String title) {
+        int ordinal = entries.size();
+        Entry entry = new Entry(id, title);
+        ordinals.put(id, ordinal);
+        entries.add(entry);
+        index(ordinal, entry);
+    }
+
+    private void index(int ordinal, Entry entry) {
+        for (String gram : entry.grams) {
+            postings.computeIfAbsent(gram, g -> new PostingList()).add(ordinal);
+        }
+    }
+
+    private void unindex(int ordinal, Entry entry) {
+        for (String gram : entry.grams) {
+            PostingList list = postings.get(gram);
+            if (list != null && list.remove(ordinal) && list.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Sum over query words of the distance to the closest title word (or title
+     * word prefix), or -1 if some query word has no title word within its budget
+     */
+    private static int distance(List<String> queryWords, List<String> titleWords) {
+        int total = 0;
+        for (String queryWord : queryWords) {
+            int max = maxEdits(queryWord);
+            int best = max + 1;
+            for (String titleWord : titleWords) {
+                best = Math.min(best, boundedLevenshtein(queryWord, titleWord, max));
+                if (titleWord.length() > queryWord.length()) {
+                    String prefix = titleWord.substring(0, queryWord.length());
+                    best = Math.min(best, boundedLevenshtein(queryWord, prefix, max));
+                }
+                if (best == 0) {
+                    break;
+                }
+            }
+            if (best > max) {
+                return -1;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private static int maxEdits(String word) {
+        if (word.length() <= 3) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    private static Set<String> trigrams(List<String> words) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words) {
+            String padded = " " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    private static final class Entry {
+        private final String id;
+        private final List<String> words;
+        private final Set<String> grams;
+
+        private Entry(String id, String title) {
+            this.id = id;
+            this.words = QuestionSearchIndex.tokenize(title);
+            this.grams = trigrams(words);
+        }
+    }
+
+    private record Candidate(int ordinal, int shared, int distance) {
+        private static final Comparator<Candidate> RANKING = Comparator
+                .comparingInt(Candidate::distance)
+                .thenComparing(Comparator.comparingInt(Candidate::shared).reversed())
+                .thenComparing(Comparator.comparingInt(Candidate::ordinal).reversed());
+    }
+}
@@ -0,0 +1,130 @@
+// src/test/java/com/algoarena/benchmark/CacheKeyBenchmark.java
+package com.algoarena.benchmark;
+
+import com.algoarena.config.StructuredKeyGenerator;
+import com.algoarena.service.cache.QuestionPageKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache key cost on the questionsList lookup path: the old SpEL string key and
+ * the old StringBuilder key generator versus the structured keys.
+ *
+ * Each benchmark builds the key and does a hit lookup in a Caffeine cache, which
+ * is what every @Cacheable call pays before returning. Not run by the test
+ * phase; start it with main() (or -prof gc for allocation rates).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheKeyBenchmark {
+
+    // Key expression used on getAllQuestionsFiltered before structured keys
+    private static final String SPEL_KEY = "'page_' + #pageable.pageNumber + '_size_' + #pageable.pageSize"
+            + " + '_cat_' + (#categoryId ?: 'all') + '_lvl_' + (#level ?: 'all') + '_search_' + (#search ?: 'none')";
+
+    private Pageable pageable;
+    private String categoryId;
+    private String level;
+    private String search;
+
+    private Expression spelKey;
+    private Method method;
+    private StructuredKeyGenerator structuredKeyGenerator;
+    private Cache<Object, Object> cache;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        pageable = PageRequest.of(2, 20);
+        categoryId = "665f1c2ab4e1a23d9c0f1e77";
+        level = "MEDIUM";
+        search = null;
+
+        spelKey = new SpelExpressionParser().parseExpression(SPEL_KEY);
+        method = CacheKeyBenchmark.class.getMethod("setUp");
+        structuredKeyGenerator = new StructuredKeyGenerator();
+
+        Object value = new Object();
+        cache = Caffeine.newBuilder().maximumSize(1_000).build();
+        cache.put(spelKey(), value);
+        cache.put(stringBuilderKey(method, pageable, categoryId, level, search), value);
+        cache.put(QuestionPageKey.of(pageable, categoryId, level, search), value);
+        cache.put(structuredKeyGenerator.generate(this, method, pageable, categoryId, level, search), value);
+    }
+
+    @Benchmark
+    public Object spelStringKey() {
+        return cache.getIfPresent(spelKey());
+    }
+
+    @Benchmark
+    public Object stringBuilderKeyGenerator() {
+        return cache.getIfPresent(stringBuilderKey(method, pageable, categoryId, level, search));
+    }
+
+    @Benchmark
+    public Object questionPageKey() {
+        return cache.getIfPresent(QuestionPageKey.of(pageable, categoryId, level, search));
+    }
+
+    @Benchmark
+    public Object structuredKeyGenerator() {
+        return cache.getIfPresent(structuredKeyGenerator.generate(this, method, pageable, categoryId, level, search));
+    }
+
+    // ==================== OLD KEY BUILDERS ====================
+
+    private Object spelKey() {
+        // Spring creates a fresh evaluation context per invocation as well
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.setVariable("pageable", pageable);
+        context.setVariable("categoryId", categoryId);
+        context.setVariable("level", level);
+        context.setVariable("search", search);
+        return spelKey.getValue(context);
+    }
+
+    // Former CacheConfig.keyGenerator()
+    private static Object stringBuilderKey(Method method, Object... params) {
+        StringBuilder key = new StringBuilder();
+        key.append(method.getName());
+        for (Object param : params) {
+            if (param != null) {
+                key.append("_").append(param.toString());
+            }
+        }
+        return key.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CacheKeyBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
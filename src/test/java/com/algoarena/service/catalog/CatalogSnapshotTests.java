@@ -0,0 +1,80 @@
+// src/test/java/com/algoarena/service/catalog/CatalogSnapshotTests.java
+package com.algoarena.service.catalog;
+
+import com.algoarena.model.QuestionLevel;
+import com.algoarena.model.QuestionMeta;
+import com.algoarena.repository.QuestionCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = CatalogSnapshot.of(List.of(
+                meta("q1", "arrays", QuestionLevel.EASY, 1),
+                meta("q2", "arrays", QuestionLevel.MEDIUM, 2),
+                meta("q3", "trees", QuestionLevel.EASY, 3),
+                meta("q4", "arrays", QuestionLevel.EASY, 4),
+                meta("q5", "trees", QuestionLevel.HARD, 4)),
+                Map.of("arrays", "Arrays", "trees", "Trees", "graphs", "Graphs"));
+    }
+
+    @Test
+    void listsNewestFirstPerFilter() {
+        // q4 and q5 share createdAt: higher id first
+        assertThat(ids(snapshot.list(null, null))).containsExactly("q5", "q4", "q3", "q2", "q1");
+        assertThat(ids(snapshot.list("arrays", QuestionLevel.EASY))).containsExactly("q4", "q1");
+        assertThat(snapshot.count(null, QuestionLevel.EASY)).isEqualTo(3);
+        assertThat(snapshot.count("graphs", null)).isZero();
+        assertThat(snapshot.count("unknown", null)).isZero();
+        assertThat(snapshot.categoryIds()).containsExactly("arrays", "graphs", "trees");
+    }
+
+    @Test
+    void pagesAndResumesFromCursor() {
+        Page<QuestionMeta> page = snapshot.page("arrays", null, PageRequest.of(1, 2));
+        assertThat(ids(page.getContent())).containsExactly("q1");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+
+        QuestionCursor cursor = QuestionCursor.of(NOW.plusDays(4), "q5");
+        assertThat(ids(snapshot.after(null, null, cursor, 2))).containsExactly("q4", "q3");
+    }
+
+    @Test
+    void copyOnWriteLeavesThePreviousSnapshotUntouched() {
+        CatalogSnapshot next = snapshot
+                .withQuestion(meta("q6", "graphs", QuestionLevel.HARD, 5))
+                .withoutQuestions(List.of("q1"))
+                .withCategory("trees", "Binary Trees");
+
+        assertThat(ids(next.list(null, null))).containsExactly("q6", "q5", "q4", "q3", "q2");
+        assertThat(next.categoryName("trees")).isEqualTo("Binary Trees");
+        assertThat(snapshot.size()).isEqualTo(5);
+        assertThat(snapshot.categoryName("trees")).isEqualTo("Trees");
+
+        CatalogSnapshot withoutArrays = next.withoutCategory("arrays");
+        assertThat(ids(withoutArrays.list(null, null))).containsExactly("q6", "q5", "q3");
+        assertThat(withoutArrays.categoryIds()).containsExactly("trees", "graphs");
+    }
+
+    private static QuestionMeta meta(String id, String categoryId, QuestionLevel level, int day) {
+        return new QuestionMeta(id, "Question " + id, level, categoryId, NOW.plusDays(day));
+    }
+
+    private static List<String> ids(List<QuestionMeta> questions) {
+        return questions.stream().map(QuestionMeta::id).toList();
+    }
+}
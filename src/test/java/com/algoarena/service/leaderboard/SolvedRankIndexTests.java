@@ -0,0 +1,68 @@
+// src/test/java/com/algoarena/service/leaderboard/SolvedRankIndexTests.java
+package com.algoarena.service.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SolvedRankIndexTests {
+
+    @Test
+    void ranksWithTiesAndMoves() {
+        SolvedRankIndex index = new SolvedRankIndex();
+        index.set("a", 5);
+        index.set("b", 12);
+        index.set("c", 5);
+        index.set("d", 1);
+
+        assertThat(index.rank("b")).isEqualTo(1);
+        assertThat(index.rank("a")).isEqualTo(2);
+        assertThat(index.rank("c")).isEqualTo(2);
+        assertThat(index.rank("d")).isEqualTo(4);
+        assertThat(index.rank("unknown")).isEqualTo(5);
+
+        // Grows past the initial capacity, then drops out of the ranking
+        index.set("d", 300);
+        assertThat(index.rank("d")).isEqualTo(1);
+        assertThat(index.rank("b")).isEqualTo(2);
+        index.set("d", 0);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.rank("b")).isEqualTo(1);
+    }
+
+    @Test
+    void pagesMatchSortedOrder() {
+        Random random = new Random(7);
+        SolvedRankIndex index = new SolvedRankIndex();
+        for (int i = 0; i < 500; i++) {
+            index.set("user" + i, random.nextInt(150));
+        }
+        for (int i = 0; i < 100; i++) {
+            index.set("user" + random.nextInt(500), random.nextInt(150));
+        }
+
+        List<SolvedRankIndex.Entry> all = index.page(0, Integer.MAX_VALUE);
+        assertThat(all).hasSize(index.size());
+        List<SolvedRankIndex.Entry> expected = new ArrayList<>(all);
+        expected.sort(Comparator.comparingInt(SolvedRankIndex.Entry::solved).reversed()
+                .thenComparing(SolvedRankIndex.Entry::userId));
+        assertThat(all).containsExactlyElementsOf(expected);
+
+        for (SolvedRankIndex.Entry entry : all) {
+            assertThat(entry.rank()).isEqualTo(index.rank(entry.userId()));
+            long above = all.stream().filter(other -> other.solved() > entry.solved()).count();
+            assertThat(entry.rank()).isEqualTo(above + 1);
+        }
+
+        for (int offset : new int[]{0, 1, 37, 250, all.size() - 1}) {
+            assertThat(index.page(offset, 25))
+                    .containsExactlyElementsOf(all.subList(offset, Math.min(offset + 25, all.size())));
+        }
+        assertThat(index.page(all.size(), 10)).isEmpty();
+    }
+}
@@ -0,0 +1,52 @@
+// src/test/java/com/algoarena/service/progress/ActivityHistogramTests.java
+package com.algoarena.service.progress;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActivityHistogramTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 14);
+
+    @Test
+    void countsAndStreaks() {
+        ActivityHistogram activity = ActivityHistogram.of(Map.of(
+                "2025-03-14", 2,
+                "2025-03-13", 1,
+                "2025-03-12", 3,
+                "2025-03-05", 1,
+                "2025-03-04", 1,
+                "2025-03-03", 1,
+                "2025-03-02", 1,
+                "2024-01-01", 9,   // outside the span
+                "2025-03-01", 0),  // non-positive counts are ignored
+                TODAY, 30);
+
+        assertThat(activity.solvedInLast(TODAY, 1)).isEqualTo(2);
+        assertThat(activity.solvedInLast(TODAY, 7)).isEqualTo(6);
+        assertThat(activity.solvedInLast(TODAY, 30)).isEqualTo(10);
+        assertThat(activity.totalSolves()).isEqualTo(10);
+        assertThat(activity.activeDays()).isEqualTo(7);
+        assertThat(activity.currentStreak(TODAY)).isEqualTo(3);
+        assertThat(activity.longestStreak()).isEqualTo(4);
+    }
+
+    @Test
+    void staysCorrectAfterMidnight() {
+        ActivityHistogram activity = ActivityHistogram.of(Map.of("2025-03-13", 1, "2025-03-14", 1), TODAY, 30);
+        LocalDate tomorrow = TODAY.plusDays(1);
+
+        // Nothing solved yet tomorrow: the streak is still alive
+        assertThat(activity.currentStreak(tomorrow)).isEqualTo(2);
+        assertThat(activity.currentStreak(tomorrow.plusDays(1))).isZero();
+        assertThat(activity.solvedInLast(tomorrow, 1)).isZero();
+        assertThat(activity.solvedInLast(tomorrow, 2)).isEqualTo(1);
+
+        int[] heatmap = activity.heatmap(tomorrow, 3);
+        assertThat(heatmap).containsExactly(1, 1, 0);
+    }
+}
@@ -0,0 +1,48 @@
+// src/test/java/com/algoarena/service/progress/HyperLogLogTests.java
+package com.algoarena.service.progress;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HyperLogLogTests {
+
+    @Test
+    void smallCountsAreExactAndDuplicatesIgnored() {
+        HyperLogLog sketch = new HyperLogLog();
+        assertThat(sketch.estimate()).isZero();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 50; i++) {
+                sketch.add("user" + i);
+            }
+        }
+        assertThat(sketch.estimate()).isEqualTo(50);
+    }
+
+    @Test
+    void largeCountsStayWithinErrorBound() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add(Integer.toHexString(i * 31 + 7) + "-user");
+        }
+        assertThat(sketch.estimate()).isBetween(95_000L, 105_000L);
+    }
+
+    @Test
+    void mergeIsAUnion() {
+        HyperLogLog monday = new HyperLogLog();
+        HyperLogLog tuesday = new HyperLogLog();
+        for (int i = 0; i < 20_000; i++) {
+            monday.add("user" + i);
+        }
+        for (int i = 10_000; i < 30_000; i++) {
+            tuesday.add("user" + i);
+        }
+
+        HyperLogLog week = new HyperLogLog();
+        week.merge(monday);
+        week.merge(tuesday);
+        week.merge(monday);
+        assertThat(week.estimate()).isBetween(28_500L, 31_500L);
+    }
+}
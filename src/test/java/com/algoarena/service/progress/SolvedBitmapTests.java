@@ -0,0 +1,60 @@
+// src/test/java/com/algoarena/service/progress/SolvedBitmapTests.java
+package com.algoarena.service.progress;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SolvedBitmapTests {
+
+    @Test
+    void picksTheSmallerContainer() {
+        SolvedBitmap sparse = SolvedBitmap.of(new int[]{4000, 3, 3, 70});
+        assertThat(sparse.isDense()).isFalse();
+        assertThat(sparse.cardinality()).isEqualTo(3);
+        assertThat(sparse.toArray()).containsExactly(3, 70, 4000);
+
+        SolvedBitmap dense = SolvedBitmap.of(IntStream.range(0, 500).toArray());
+        assertThat(dense.isDense()).isTrue();
+        assertThat(dense.contains(499)).isTrue();
+        assertThat(dense.contains(500)).isFalse();
+    }
+
+    @Test
+    void countsAgainstMasks() {
+        long[] evens = mask(IntStream.range(0, 600).filter(i -> i % 2 == 0).toArray());
+        long[] belowHundred = mask(IntStream.range(0, 100).toArray());
+
+        for (SolvedBitmap solved : new SolvedBitmap[]{
+                SolvedBitmap.of(new int[]{1, 2, 4, 150}),
+                SolvedBitmap.of(IntStream.range(0, 400).toArray())}) {
+            int[] members = solved.toArray();
+            int expectedEven = (int) IntStream.of(members).filter(i -> i % 2 == 0).count();
+            int expectedBoth = (int) IntStream.of(members).filter(i -> i % 2 == 0 && i < 100).count();
+            assertThat(solved.countIn(evens)).isEqualTo(expectedEven);
+            assertThat(solved.countIn(evens, belowHundred)).isEqualTo(expectedBoth);
+        }
+    }
+
+    @Test
+    void updatesReturnNewBitmaps() {
+        SolvedBitmap solved = SolvedBitmap.of(new int[]{1, 2});
+        SolvedBitmap added = solved.with(64);
+        SolvedBitmap removed = added.without(1);
+
+        assertThat(solved.toArray()).containsExactly(1, 2);
+        assertThat(added.toArray()).containsExactly(1, 2, 64);
+        assertThat(removed.toArray()).containsExactly(2, 64);
+        assertThat(removed.without(99)).isSameAs(removed);
+    }
+
+    private static long[] mask(int[] ordinals) {
+        long[] words = new long[(IntStream.of(ordinals).max().orElse(0) >>> 6) + 1];
+        for (int ordinal : ordinals) {
+            words[ordinal >>> 6] |= 1L << ordinal;
+        }
+        return words;
+    }
+}
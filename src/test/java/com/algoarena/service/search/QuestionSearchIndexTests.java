@@ -0,0 +1,74 @@
+// src/test/java/com/algoarena/service/search/QuestionSearchIndexTests.java
+package com.algoarena.service.search;
+
+import com.algoarena.model.QuestionLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionSearchIndexTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private QuestionSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new QuestionSearchIndex();
+        index.rebuild(List.of(
+                doc("q1", "Binary Tree Inorder Traversal", "Traverse a binary tree.", "trees", QuestionLevel.EASY, 1),
+                doc("q2", "Two Sum", "Find two numbers in an array that add up to a target.", "arrays", QuestionLevel.EASY, 2),
+                doc("q3", "Maximum Subarray", "Kadane on an array; a binary search variant also exists.", "arrays", QuestionLevel.MEDIUM, 3),
+                doc("q4", "Binary Search", "Search a sorted array.", "search", QuestionLevel.EASY, 4)));
+    }
+
+    @Test
+    void tokenizesCaseInsensitivelyOnNonAlphanumerics() {
+        assertThat(QuestionSearchIndex.tokenize("Two-Sum, two SUM!")).containsExactly("two", "sum");
+        assertThat(QuestionSearchIndex.tokenize("  ")).isEmpty();
+    }
+
+    @Test
+    void requiresEveryTermAndMatchesPrefixes() {
+        assertThat(index.search("bin tre", null, null)).containsExactly("q1");
+        assertThat(index.search("binary", null, null)).containsExactlyInAnyOrder("q1", "q3", "q4");
+        assertThat(index.search("binary heap", null, null)).isEmpty();
+    }
+
+    @Test
+    void ranksTitleMatchesAboveStatementMatches() {
+        // q1 matches "binary" in title and statement, q4 in the title, q3 only in the statement
+        assertThat(index.search("binary", null, null)).containsExactly("q1", "q4", "q3");
+        // Equal scores: newest first
+        assertThat(index.search("array", null, null)).containsExactly("q4", "q3", "q2");
+    }
+
+    @Test
+    void filtersByCategoryAndLevel() {
+        assertThat(index.search("array", "arrays", null)).containsExactlyInAnyOrder("q2", "q3");
+        assertThat(index.search("array", "arrays", QuestionLevel.MEDIUM)).containsExactly("q3");
+    }
+
+    @Test
+    void updatesIncrementally() {
+        index.upsert(doc("q5", "Binary Heap", "Priority queue.", "heaps", QuestionLevel.HARD, 5));
+        assertThat(index.search("binary heap", null, null)).containsExactly("q5");
+
+        index.upsert(doc("q5", "Priority Queue", "Heap backed.", "heaps", QuestionLevel.HARD, 5));
+        assertThat(index.search("binary heap", null, null)).isEmpty();
+        assertThat(index.search("priority", null, null)).containsExactly("q5");
+
+        index.remove("q5");
+        assertThat(index.search("priority", null, null)).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    private static QuestionSearchIndex.Document doc(String id, String title, String statement,
+                                                    String categoryId, QuestionLevel level, int day) {
+        return new QuestionSearchIndex.Document(id, title, statement, categoryId, level, NOW.plusDays(day));
+    }
+}
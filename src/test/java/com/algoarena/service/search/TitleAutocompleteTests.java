@@ -0,0 +1,92 @@
+// src/test/java/com/algoarena/service/search/TitleAutocompleteTests.java
+package com.algoarena.service.search;
+
+import com.algoarena.model.QuestionLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TitleAutocompleteTests {
+
+    private final Map<String, TitleAutocomplete.Suggestion> suggestions = new LinkedHashMap<>();
+
+    private TitleAutocomplete autocomplete;
+
+    @BeforeEach
+    void setUp() {
+        upsert("q1", "Binary Tree Inorder Traversal", "trees");
+        upsert("q2", "Two Sum", "arrays");
+        upsert("q3", "Two Sum", "hashing");
+        upsert("q4", "Binary Search", "search");
+        upsert("q5", "Search in Rotated Sorted Array", "search");
+        upsert("q6", "Maximum Subarray", "arrays");
+    }
+
+    @Test
+    void normalizesCaseAndPunctuation() {
+        assertThat(TitleAutocomplete.normalize("  Two-Sum,  II! ")).isEqualTo("two sum ii");
+        assertThat(TitleAutocomplete.normalize(null)).isEmpty();
+        assertThat(ids("  BIN--")).containsExactly("q4", "q1");
+    }
+
+    @Test
+    void findsEveryRepeatedKeyAndNothingBetweenKeys() {
+        // Duplicate titles: the lower bound lands on the first of them
+        assertThat(ids("two sum")).containsExactly("q2", "q3");
+        // Sorts between "binary tree ..." and "maximum subarray" but prefixes neither
+        assertThat(ids("c")).isEmpty();
+        // Past the last key
+        assertThat(ids("zzz")).isEmpty();
+    }
+
+    @Test
+    void ranksTitleStartsAboveWordStarts() {
+        // q5 starts with "search", q4 only has it as a later word
+        assertThat(ids("search")).containsExactly("q5", "q4");
+        // "sum" and "subarray" only ever start a later word
+        assertThat(ids("su")).containsExactly("q6", "q2", "q3");
+        // q5 matches as title start and word start ("sorted") but is listed once
+        assertThat(ids("s")).containsExactly("q5", "q4", "q6", "q2", "q3");
+    }
+
+    @Test
+    void clampsToLimitAndFiltersByCategory() {
+        assertThat(autocomplete.complete("s", null, 2)).extracting(TitleAutocomplete.Suggestion::id)
+                .containsExactly("q5", "q4");
+        assertThat(autocomplete.complete("s", null, 0)).isEmpty();
+        assertThat(autocomplete.complete("s", null, -1)).isEmpty();
+        assertThat(autocomplete.complete("", null, 10)).isEmpty();
+        assertThat(autocomplete.complete("s", "arrays", 10)).extracting(TitleAutocomplete.Suggestion::id)
+                .containsExactly("q6", "q2");
+    }
+
+    @Test
+    void rebuildsOnUpsertAndRemove() {
+        upsert("q7", "Binary Heap", "heaps");
+        assertThat(ids("binary h")).containsExactly("q7");
+
+        upsert("q7", "Priority Queue", "heaps");
+        assertThat(ids("binary h")).isEmpty();
+        assertThat(ids("queue")).containsExactly("q7");
+
+        suggestions.remove("q7");
+        autocomplete = TitleAutocomplete.of(suggestions.values());
+        assertThat(ids("queue")).isEmpty();
+        assertThat(autocomplete.size()).isEqualTo(6);
+    }
+
+    // Same rebuild as QuestionSearchService: replace the entry, rebuild the snapshot
+    private void upsert(String id, String title, String categoryId) {
+        suggestions.put(id, new TitleAutocomplete.Suggestion(id, title, QuestionLevel.EASY, categoryId));
+        autocomplete = TitleAutocomplete.of(suggestions.values());
+    }
+
+    private List<String> ids(String prefix) {
+        return autocomplete.complete(prefix, null, 10).stream().map(TitleAutocomplete.Suggestion::id).toList();
+    }
+}
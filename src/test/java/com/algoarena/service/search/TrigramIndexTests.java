@@ -0,0 +1,55 @@
+// src/test/java/com/algoarena/service/search/TrigramIndexTests.java
+package com.algoarena.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTests {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, String> titles = new LinkedHashMap<>();
+        titles.put("q1", "Binary Search");
+        titles.put("q2", "Binary Tree Inorder Traversal");
+        titles.put("q3", "Dijkstra's Algorithm");
+        titles.put("q4", "Two Sum");
+        index = new TrigramIndex();
+        index.rebuild(titles);
+    }
+
+    @Test
+    void toleratesTyposAndUnfinishedWords() {
+        assertThat(index.search("binery search", 10)).containsExactly("q1");
+        assertThat(index.search("dijkstr", 10)).containsExactly("q3");
+        assertThat(index.search("binary", 10)).containsExactlyInAnyOrder("q1", "q2");
+    }
+
+    @Test
+    void shortWordsMustMatchExactly() {
+        assertThat(index.search("two sum", 10)).containsExactly("q4");
+        assertThat(index.search("tow sum", 10)).isEmpty();
+    }
+
+    @Test
+    void boundsEditDistance() {
+        assertThat(TrigramIndex.boundedLevenshtein("binery", "binary", 2)).isEqualTo(1);
+        assertThat(TrigramIndex.boundedLevenshtein("kitten", "sitting", 2)).isEqualTo(3);
+    }
+
+    @Test
+    void updatesIncrementally() {
+        index.upsert("q5", "Binary Heap");
+        assertThat(index.search("binari heap", 10)).containsExactly("q5");
+
+        index.remove("q5");
+        assertThat(index.search("binari heap", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+}